@@ -0,0 +1,138 @@
+package com.selenium.tests.benchmarks;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files and reports benchmarks that got slower than the tolerance allows
+ * A result only counts as a regression when the slowdown exceeds the tolerance and the two scores'
+ * error intervals do not overlap, so run-to-run noise is not reported.
+ *
+ * Usage: BaselineComparator baseline.json result.json [tolerance]
+ */
+public final class BaselineComparator {
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <result.json> [tolerance]");
+            System.exit(2);
+        }
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+        int regressions = compare(Paths.get(args[0]), Paths.get(args[1]), tolerance, System.out);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    /**
+     * Prints one line per benchmark found in both files and returns the number of regressions
+     */
+    public static int compare(Path baselineFile, Path resultFile, double tolerance, PrintStream out) throws IOException {
+        Map<String, Score> baseline = read(baselineFile);
+        Map<String, Score> results = read(resultFile);
+        int regressions = 0;
+        out.printf("%-60s %18s %18s %8s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : results.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            Score after = entry.getValue();
+            if (before == null) {
+                out.printf("%-60s %18s %18s %8s%n", entry.getKey(), "-", after, "new");
+                continue;
+            }
+            double slowdown = after.slowdownAgainst(before);
+            boolean regressed = slowdown > tolerance && !after.overlaps(before);
+            if (regressed) {
+                regressions++;
+            }
+            out.printf("%-60s %18s %18s %+7.1f%%%s%n", entry.getKey(), before, after, slowdown * 100,
+                regressed ? "  REGRESSION" : "");
+        }
+        out.printf("%d regression(s) beyond %.0f%% tolerance%n", regressions, tolerance * 100);
+        return regressions;
+    }
+
+    private static Map<String, Score> read(Path file) throws IOException {
+        List<Map<String, Object>> runs = new Json().toType(Files.readString(file), Json.LIST_OF_MAPS_TYPE);
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (Map<String, Object> run : runs) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> metric = (Map<String, Object>) run.get("primaryMetric");
+            scores.put(key(run), new Score(
+                String.valueOf(run.get("mode")),
+                toDouble(metric.get("score")),
+                toDouble(metric.get("scoreError")),
+                String.valueOf(metric.get("scoreUnit"))));
+        }
+        return scores;
+    }
+
+    /**
+     * Benchmark name plus its parameters, e.g. LocatorBenchmark.css{locator=emailInput}
+     */
+    private static String key(Map<String, Object> run) {
+        String name = String.valueOf(run.get("benchmark"));
+        name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+        Object params = run.get("params");
+        if (params instanceof Map && !((Map<?, ?>) params).isEmpty()) {
+            name += new TreeMap<>((Map<?, ?>) params).toString();
+        }
+        return name;
+    }
+
+    /**
+     * JMH writes NaN errors (single measurement) as a string
+     */
+    private static double toDouble(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        try {
+            return Double.parseDouble(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static final class Score {
+        private final String mode;
+        private final double value;
+        private final double error;
+        private final String unit;
+
+        Score(String mode, double value, double error, String unit) {
+            this.mode = mode;
+            this.value = value;
+            this.error = Double.isNaN(error) ? 0 : error;
+            this.unit = unit;
+        }
+
+        /**
+         * Relative slowdown; throughput is better when higher, every other mode when lower
+         */
+        double slowdownAgainst(Score baseline) {
+            if ("thrpt".equals(mode)) {
+                return baseline.value / value - 1;
+            }
+            return value / baseline.value - 1;
+        }
+
+        boolean overlaps(Score other) {
+            return value - error <= other.value + other.error && other.value - other.error <= value + error;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.2f %s", value, unit);
+        }
+    }
+}
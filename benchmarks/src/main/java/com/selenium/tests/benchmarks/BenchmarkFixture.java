@@ -0,0 +1,58 @@
+package com.selenium.tests.benchmarks;
+
+import com.selenium.tests.config.FrameworkConfig;
+import com.selenium.tests.driver.DriverFactory;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Shared set-up for the benchmarks: a headless browser and the local static page they run against
+ * The page carries every locator of the Prism page objects, so no network is involved.
+ */
+final class BenchmarkFixture {
+    private static final String FIXTURE = "/fixture/prism.html";
+
+    private static String pageUrl;
+
+    private BenchmarkFixture() {
+    }
+
+    /**
+     * Creates a browser through the framework's DriverFactory (fast, headless profile unless overridden)
+     */
+    static WebDriver startDriver() {
+        return driverFactory().createDriver();
+    }
+
+    static DriverFactory driverFactory() {
+        FrameworkConfig.setDefault("browser.profile", "fast");
+        FrameworkConfig.setDefault("metrics.navigationTiming", "false");
+        return new DriverFactory();
+    }
+
+    /**
+     * file: URL of the fixture page, extracted from the benchmark jar on first use
+     */
+    static synchronized String pageUrl() {
+        if (pageUrl == null) {
+            try (InputStream in = BenchmarkFixture.class.getResourceAsStream(FIXTURE)) {
+                if (in == null) {
+                    throw new IllegalStateException("Benchmark fixture not found on the classpath: " + FIXTURE);
+                }
+                Path page = Files.createTempFile("prism-benchmark-", ".html");
+                page.toFile().deleteOnExit();
+                Files.copy(in, page, StandardCopyOption.REPLACE_EXISTING);
+                pageUrl = page.toUri().toString();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not extract the benchmark fixture", e);
+            }
+        }
+        return pageUrl;
+    }
+}
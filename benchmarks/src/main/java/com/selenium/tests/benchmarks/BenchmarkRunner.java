@@ -0,0 +1,78 @@
+package com.selenium.tests.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the benchmarks, writes the JMH results as JSON and compares them with the stored baseline
+ *
+ *   benchmark.include    regular expression selecting benchmarks (default: all; also accepted as first argument)
+ *   benchmark.result     JSON result file (default target/jmh-result.json)
+ *   benchmark.baseline   baseline file (default baselines/baseline.json)
+ *   benchmark.tolerance  allowed slowdown before a result counts as a regression (default 0.10 = 10%)
+ *   baseline.update      copy the results over the baseline instead of comparing (default false)
+ *
+ * Framework settings (browser.*, driver.*, metrics.*, log.*) given to this JVM are passed on to the forks.
+ * Exits with status 1 when a benchmark regressed.
+ */
+public final class BenchmarkRunner {
+    private static final String[] FORWARDED_PREFIXES = {"browser.", "driver.", "metrics.", "log."};
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = args.length > 0 ? args[0] : System.getProperty("benchmark.include", BenchmarkRunner.class.getPackageName() + ".*");
+        Path result = Paths.get(System.getProperty("benchmark.result", "target/jmh-result.json"));
+        Path baseline = Paths.get(System.getProperty("benchmark.baseline", "baselines/baseline.json"));
+        double tolerance = Double.parseDouble(System.getProperty("benchmark.tolerance", "0.10"));
+        Files.createDirectories(result.toAbsolutePath().getParent());
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+            .include(include)
+            .resultFormat(ResultFormatType.JSON)
+            .result(result.toString());
+        List<String> jvmArgs = forwardedProperties();
+        if (!jvmArgs.isEmpty()) {
+            options.jvmArgsAppend(jvmArgs.toArray(new String[0]));
+        }
+        new Runner(options.build()).run();
+
+        if (Boolean.getBoolean("baseline.update")) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline updated: " + baseline);
+        } else if (Files.exists(baseline)) {
+            int regressions = BaselineComparator.compare(baseline, result, tolerance, System.out);
+            if (regressions > 0) {
+                System.exit(1);
+            }
+        } else {
+            System.out.println("No baseline at " + baseline + "; run with -Dbaseline.update=true to create it");
+        }
+    }
+
+    private static List<String> forwardedProperties() {
+        List<String> jvmArgs = new ArrayList<>();
+        for (String key : System.getProperties().stringPropertyNames()) {
+            for (String prefix : FORWARDED_PREFIXES) {
+                if (key.startsWith(prefix)) {
+                    jvmArgs.add("-D" + key + "=" + System.getProperty(key));
+                    break;
+                }
+            }
+        }
+        return jvmArgs;
+    }
+}
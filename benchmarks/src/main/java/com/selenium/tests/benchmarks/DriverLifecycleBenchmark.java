@@ -0,0 +1,68 @@
+package com.selenium.tests.benchmarks;
+
+import com.selenium.tests.driver.DriverFactory;
+import com.selenium.tests.driver.DriverPool;
+import com.selenium.tests.driver.PooledDriver;
+import org.openqa.selenium.WebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of getting a browser for a test: a new session per test against a lease from the driver pool
+ * Both variants load the fixture page, as a test would. The pooled variant includes the pool's reset
+ * of the browser on release. Single-shot mode, since a browser start takes around a second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DriverLifecycleBenchmark {
+
+    private DriverFactory factory;
+    private DriverPool pool;
+
+    @Setup
+    public void createPool() {
+        factory = BenchmarkFixture.driverFactory();
+        pool = new DriverPool(1, Integer.MAX_VALUE, Duration.ofSeconds(60), factory::createDriver);
+    }
+
+    @TearDown
+    public void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void newSession() {
+        WebDriver driver = factory.createDriver();
+        try {
+            driver.get(BenchmarkFixture.pageUrl());
+        } finally {
+            driver.quit();
+        }
+    }
+
+    @Benchmark
+    public void pooledLease() {
+        PooledDriver pooled = pool.lease();
+        try {
+            pooled.getDriver().get(BenchmarkFixture.pageUrl());
+        } finally {
+            pool.release(pooled, true);
+        }
+    }
+}
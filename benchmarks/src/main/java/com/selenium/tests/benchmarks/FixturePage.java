@@ -0,0 +1,41 @@
+package com.selenium.tests.benchmarks;
+
+import com.selenium.tests.pages.BasePage;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+/**
+ * Page object for the benchmark fixture, exposing BasePage's protected actions to the benchmarks
+ */
+public class FixturePage extends BasePage {
+
+    @FindBy(css = "#home h1")
+    private WebElement mainHeading;
+
+    @FindBy(css = "input[placeholder]")
+    private WebElement nameInput;
+
+    @FindBy(css = "button[type='submit']")
+    private WebElement submitButton;
+
+    public FixturePage(WebDriver driver) {
+        super(driver);
+    }
+
+    public void open() {
+        navigateTo(BenchmarkFixture.pageUrl());
+    }
+
+    public void clickSubmit() {
+        click(submitButton);
+    }
+
+    public void typeName(String name) {
+        sendKeys(nameInput, name);
+    }
+
+    public String readHeading() {
+        return getText(mainHeading);
+    }
+}
@@ -0,0 +1,91 @@
+package com.selenium.tests.benchmarks;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BasePage.click, sendKeys and getText against the same calls on a raw WebElement
+ * The difference is the framework's overhead per action: logging, the caching element proxy and
+ * (when metrics.commandLatency is on) command timing. Run at WARN and INFO to see the cost of the per-action logging.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InteractionBenchmark {
+
+    @Param({"WARN", "INFO"})
+    public String logLevel;
+
+    private WebDriver driver;
+    private FixturePage page;
+    private WebElement rawHeading;
+    private WebElement rawNameInput;
+    private WebElement rawSubmitButton;
+
+    @Setup
+    public void openFixture() {
+        Configurator.setLevel("com.selenium.tests", Level.valueOf(logLevel));
+        driver = BenchmarkFixture.startDriver();
+        page = new FixturePage(driver);
+        page.open();
+        rawHeading = driver.findElement(By.cssSelector("#home h1"));
+        rawNameInput = driver.findElement(By.cssSelector("input[placeholder]"));
+        rawSubmitButton = driver.findElement(By.cssSelector("button[type='submit']"));
+    }
+
+    @TearDown
+    public void quitBrowser() {
+        driver.quit();
+    }
+
+    @Benchmark
+    public void pageClick() {
+        page.clickSubmit();
+    }
+
+    @Benchmark
+    public void rawClick() {
+        rawSubmitButton.click();
+    }
+
+    @Benchmark
+    public void pageSendKeys() {
+        page.typeName("Benchmark");
+    }
+
+    @Benchmark
+    public void rawSendKeys() {
+        rawNameInput.clear();
+        rawNameInput.sendKeys("Benchmark");
+    }
+
+    @Benchmark
+    public String pageGetText() {
+        return page.readHeading();
+    }
+
+    @Benchmark
+    public String rawGetText() {
+        return rawHeading.getText();
+    }
+}
@@ -0,0 +1,84 @@
+package com.selenium.tests.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * XPath against CSS for the locators the Prism page objects declare
+ * Each entry pairs an existing @FindBy (XPath or link text) with the CSS selector finding the same element;
+ * text-based XPaths are paired with the structural selector that is unique on the page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocatorBenchmark {
+
+    private static final Map<String, By[]> LOCATORS = Map.of(
+        "mainHeading", new By[] {
+            By.xpath("//h1[contains(text(), 'Building Cutting-Edge Software')]"), By.cssSelector("#home h1")},
+        "connectSection", new By[] {
+            By.xpath("//h2[contains(text(), \"Let's Connect\")]"), By.cssSelector("#contact h2")},
+        "submitButton", new By[] {
+            By.xpath("//button[contains(., 'Submit')]"), By.cssSelector("button[type='submit']")},
+        "emailInput", new By[] {
+            By.xpath("//input[@type='email']"), By.cssSelector("input[type='email']")},
+        "contactUsLink", new By[] {
+            By.partialLinkText("Contact Us"), By.cssSelector("nav a[href='#contact']")});
+
+    @Param({"mainHeading", "connectSection", "submitButton", "emailInput", "contactUsLink"})
+    public String locator;
+
+    private WebDriver driver;
+    private By xpath;
+    private By css;
+
+    @Setup
+    public void openFixture() {
+        driver = BenchmarkFixture.startDriver();
+        driver.get(BenchmarkFixture.pageUrl());
+        new WebDriverWait(driver, Duration.ofSeconds(10))
+            .until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("#filler .card")));
+        xpath = LOCATORS.get(locator)[0];
+        css = LOCATORS.get(locator)[1];
+    }
+
+    @TearDown
+    public void quitBrowser() {
+        driver.quit();
+    }
+
+    /**
+     * The locator as declared in the page object
+     */
+    @Benchmark
+    public WebElement declared() {
+        return driver.findElement(xpath);
+    }
+
+    @Benchmark
+    public WebElement css() {
+        return driver.findElement(css);
+    }
+}
@@ -0,0 +1,97 @@
+package com.selenium.tests.benchmarks;
+
+import com.selenium.tests.pages.prism.AboutPage;
+import com.selenium.tests.pages.prism.ContactPage;
+import com.selenium.tests.pages.prism.HomePage;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of constructing a page object: PageFactory.initElements with the framework's caching decorator
+ * Constructing a page does not talk to the browser, so this measures pure framework overhead.
+ * plainPageFactory is the same number of fields with Selenium's default decorator, for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageObjectBenchmark {
+
+    private WebDriver driver;
+
+    @Setup
+    public void startBrowser() {
+        driver = BenchmarkFixture.startDriver();
+        driver.get(BenchmarkFixture.pageUrl());
+    }
+
+    @TearDown
+    public void quitBrowser() {
+        driver.quit();
+    }
+
+    @Benchmark
+    public HomePage homePage() {
+        return new HomePage(driver);
+    }
+
+    @Benchmark
+    public AboutPage aboutPage() {
+        return new AboutPage(driver);
+    }
+
+    @Benchmark
+    public ContactPage contactPage() {
+        return new ContactPage(driver);
+    }
+
+    @Benchmark
+    public PlainPage plainPageFactory() {
+        PlainPage page = new PlainPage();
+        PageFactory.initElements(driver, page);
+        return page;
+    }
+
+    /**
+     * HomePage's fields with plain @FindBy annotations
+     */
+    public static class PlainPage {
+        @FindBy(xpath = "//h1[contains(text(), 'Building Cutting-Edge Software')]")
+        WebElement mainHeading;
+
+        @FindBy(xpath = "//h2[contains(text(), 'Why Choose Prism')]")
+        WebElement whyChoosePrismSection;
+
+        @FindBy(xpath = "//h2[contains(text(), 'Our Latest Products')]")
+        WebElement ourProductsSection;
+
+        @FindBy(partialLinkText = "Learn More")
+        WebElement learnMoreLink;
+
+        @FindBy(partialLinkText = "Contact Us")
+        WebElement contactUsLink;
+
+        @FindBy(linkText = "About")
+        WebElement aboutLink;
+
+        @FindBy(css = "img[alt]")
+        WebElement prismLogo;
+    }
+}
@@ -61,7 +61,7 @@ const tools = [
   },
   {
     name: "get_test_results",
-    description: "Get results from the last test run",
+    description: "Get results from the last test run, updated live while tests are running",
     input_schema: {
       type: "object",
       properties: {},
@@ -164,10 +164,112 @@ function runTests(testName, verbose) {
   });
 }
 
+const RESULT_STREAM = path.join(PROJECT_ROOT, "target/test-results.jsonl");
+
+// Tail state of the result stream: only bytes appended since the last call are read
+const resultStream = { head: "", offset: 0, partial: "", summary: null };
+
+function emptyStreamSummary() {
+  return { suites: [], tests: 0, passed: 0, failures: 0, skipped: 0, failed_tests: [], running: false };
+}
+
 /**
- * Parse test results from surefire reports
+ * Read test results streamed by JsonlResultReporter, parsing only the lines appended since the last call
+ * An incomplete last line (test still being written) is kept for the next call.
+ */
+function getStreamedTestResults() {
+  const size = fs.statSync(RESULT_STREAM).size;
+  const head = readHead(RESULT_STREAM);
+  if (size < resultStream.offset || head !== resultStream.head || !resultStream.summary) {
+    // File was truncated by a new run (its first line carries the run's start time)
+    resultStream.head = head;
+    resultStream.offset = 0;
+    resultStream.partial = "";
+    resultStream.summary = emptyStreamSummary();
+  }
+
+  if (size > resultStream.offset) {
+    const fd = fs.openSync(RESULT_STREAM, "r");
+    try {
+      const buffer = Buffer.alloc(size - resultStream.offset);
+      fs.readSync(fd, buffer, 0, buffer.length, resultStream.offset);
+      resultStream.offset = size;
+      const lines = (resultStream.partial + buffer.toString("utf-8")).split("\n");
+      resultStream.partial = lines.pop();
+      for (const line of lines) {
+        if (line.trim()) {
+          applyStreamEvent(resultStream.summary, JSON.parse(line));
+        }
+      }
+    } finally {
+      fs.closeSync(fd);
+    }
+  }
+
+  const summary = resultStream.summary;
+  const finished = summary.suites.filter((s) => s.duration_ms !== undefined);
+  return {
+    source: "target/test-results.jsonl",
+    running: summary.running,
+    total_tests: summary.tests,
+    passed: summary.passed,
+    failures: summary.failures,
+    skipped: summary.skipped,
+    errors: 0,
+    time_seconds: finished.reduce((total, s) => total + s.duration_ms, 0) / 1000,
+    failed_tests: summary.failed_tests,
+  };
+}
+
+function readHead(file) {
+  const fd = fs.openSync(file, "r");
+  try {
+    const buffer = Buffer.alloc(128);
+    const bytes = fs.readSync(fd, buffer, 0, buffer.length, 0);
+    return buffer.toString("utf-8", 0, bytes);
+  } finally {
+    fs.closeSync(fd);
+  }
+}
+
+function applyStreamEvent(summary, event) {
+  if (event.event === "suiteStarted") {
+    summary.suites.push({ name: event.suite });
+    summary.running = true;
+  } else if (event.event === "suiteFinished") {
+    const suite = summary.suites[summary.suites.length - 1];
+    if (suite) {
+      suite.duration_ms = event.durationMs;
+    }
+    summary.running = false;
+  } else if (event.event === "test") {
+    if (event.status === "SKIP" && event.retried) {
+      return; // attempt that was retried; the final attempt is reported separately
+    }
+    summary.tests++;
+    if (event.status === "PASS") {
+      summary.passed++;
+    } else if (event.status === "FAIL") {
+      summary.failures++;
+      summary.failed_tests.push({ name: event.name, failure: event.failure, duration_ms: event.durationMs });
+    } else {
+      summary.skipped++;
+    }
+  }
+}
+
+/**
+ * Parse test results, preferring the streamed results of the current/last run over surefire reports
  */
 function getTestResults() {
+  if (fs.existsSync(RESULT_STREAM)) {
+    try {
+      return getStreamedTestResults();
+    } catch (e) {
+      // Fall back to the surefire summary below
+    }
+  }
+
   const reportsDir = path.join(PROJECT_ROOT, "target/surefire-reports");
 
   if (!fs.existsSync(reportsDir)) {
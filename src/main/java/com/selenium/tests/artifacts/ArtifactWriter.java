@@ -0,0 +1,193 @@
+package com.selenium.tests.artifacts;
+
+import com.selenium.tests.concurrent.ThreadingSupport;
+import com.selenium.tests.config.FrameworkConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes failure artifacts (screenshots, page sources, console logs) on a background thread
+ * Test threads only hand over the captured bytes; compression and disk I/O happen on the writer thread.
+ *
+ *   artifacts.dir           output directory (default target/failure-artifacts)
+ *   artifacts.queueSize     failures waiting to be written before test threads are held back (default 16)
+ *   artifacts.offerTimeout  seconds a test thread waits for queue space before the artifacts are dropped (default 5)
+ *   artifacts.diskBudgetMb  total size of the artifacts written by one run (default 200)
+ *
+ * Text artifacts are gzipped; screenshots are already compressed PNGs and are written as they are.
+ * Once the disk budget is used up further files are skipped and counted.
+ */
+public class ArtifactWriter {
+    private static final Logger logger = LogManager.getLogger(ArtifactWriter.class);
+
+    private static ArtifactWriter instance;
+
+    private final Path dir;
+    private final BlockingQueue<FailureArtifacts> queue;
+    private final Duration offerTimeout;
+    private final long diskBudgetBytes;
+    private final Thread writerThread;
+    private volatile boolean closed;
+
+    private final AtomicLong writtenBytes = new AtomicLong();
+    private final LongAdder writtenFiles = new LongAdder();
+    private final LongAdder droppedFailures = new LongAdder();
+    private final LongAdder skippedFiles = new LongAdder();
+
+    public ArtifactWriter(Path dir, int queueSize, Duration offerTimeout, long diskBudgetBytes) {
+        this.dir = dir;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        this.offerTimeout = offerTimeout;
+        this.diskBudgetBytes = diskBudgetBytes;
+        this.writerThread = ThreadingSupport.startThread("failure-artifact-writer", this::drain);
+    }
+
+    public static synchronized ArtifactWriter getInstance() {
+        if (instance == null) {
+            instance = new ArtifactWriter(
+                Paths.get(FrameworkConfig.getString("artifacts.dir", "target/failure-artifacts")),
+                FrameworkConfig.getInt("artifacts.queueSize", 16),
+                FrameworkConfig.getSeconds("artifacts.offerTimeout", 5),
+                FrameworkConfig.getInt("artifacts.diskBudgetMb", 200) * 1024L * 1024L);
+        }
+        return instance;
+    }
+
+    /**
+     * Directory the artifacts of a failure are written to
+     */
+    public Path directoryOf(FailureArtifacts artifacts) {
+        return dir.resolve(artifacts.getName());
+    }
+
+    /**
+     * Queues the artifacts of one failure
+     * Blocks while the queue is full, for at most the offer timeout; returns false if the artifacts were dropped
+     */
+    public boolean submit(FailureArtifacts artifacts) {
+        if (closed) {
+            droppedFailures.increment();
+            return false;
+        }
+        try {
+            if (queue.offer(artifacts, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            logger.warn("Failure artifact queue full for {}; dropping artifacts of {}", offerTimeout, artifacts.getName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedFailures.increment();
+        return false;
+    }
+
+    /**
+     * Stops accepting artifacts and waits (bounded) for the queued ones to be written
+     */
+    public void close(Duration timeout) {
+        closed = true;
+        try {
+            writerThread.join(timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            logger.warn("Failure artifact writer did not finish within {}; {} failure(s) not written", timeout, queue.size());
+        }
+        if (writtenFiles.sum() > 0 || droppedFailures.sum() > 0) {
+            logger.info("Failure artifacts: {}", this);
+        }
+    }
+
+    private void drain() {
+        while (!closed || !queue.isEmpty()) {
+            try {
+                FailureArtifacts artifacts = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (artifacts != null) {
+                    write(artifacts);
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void write(FailureArtifacts artifacts) {
+        Path target = directoryOf(artifacts);
+        try {
+            for (Map.Entry<String, byte[]> file : artifacts.getFiles().entrySet()) {
+                byte[] bytes = file.getValue();
+                String name = file.getKey();
+                if (!name.endsWith(".png")) {
+                    bytes = gzip(bytes);
+                    name = name + ".gz";
+                }
+                if (writtenBytes.addAndGet(bytes.length) > diskBudgetBytes) {
+                    writtenBytes.addAndGet(-bytes.length);
+                    skippedFiles.increment();
+                    logger.debug("Disk budget exhausted; skipping {}/{}", artifacts.getName(), name);
+                    continue;
+                }
+                Files.createDirectories(target);
+                Files.write(target.resolve(name), bytes);
+                writtenFiles.increment();
+            }
+            logger.debug("Failure artifacts written to {}", target);
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("Could not write failure artifacts to {}: {}", target, e.getMessage());
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public long getWrittenBytes() {
+        return writtenBytes.get();
+    }
+
+    public long getWrittenFiles() {
+        return writtenFiles.sum();
+    }
+
+    /**
+     * Failures whose artifacts were dropped because the queue stayed full
+     */
+    public long getDroppedFailures() {
+        return droppedFailures.sum();
+    }
+
+    /**
+     * Files not written because the disk budget was used up
+     */
+    public long getSkippedFiles() {
+        return skippedFiles.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d file(s), %d KB in %s; %d failure(s) dropped (queue full), %d file(s) skipped (disk budget %d MB)",
+            getWrittenFiles(), getWrittenBytes() / 1024, dir, getDroppedFailures(), getSkippedFiles(), diskBudgetBytes / (1024 * 1024));
+    }
+}
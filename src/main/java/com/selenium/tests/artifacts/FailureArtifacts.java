@@ -0,0 +1,39 @@
+package com.selenium.tests.artifacts;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Artifacts captured from the browser when one test failed, keyed by file name
+ */
+public class FailureArtifacts {
+    private final String name;
+    private final Map<String, byte[]> files = new LinkedHashMap<>();
+
+    public FailureArtifacts(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public FailureArtifacts add(String fileName, byte[] bytes) {
+        files.put(fileName, bytes);
+        return this;
+    }
+
+    public FailureArtifacts add(String fileName, String text) {
+        return add(fileName, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isEmpty() {
+        return files.isEmpty();
+    }
+
+    public Map<String, byte[]> getFiles() {
+        return Collections.unmodifiableMap(files);
+    }
+}
@@ -1,36 +1,118 @@
 package com.selenium.tests.base;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.selenium.tests.config.FrameworkConfig;
+import com.selenium.tests.driver.DriverManager;
+import com.selenium.tests.driver.DriverPool;
+import com.selenium.tests.driver.HttpTransport;
+import com.selenium.tests.driver.PooledDriver;
+import com.selenium.tests.metrics.NavigationTimingRecorder;
+import com.selenium.tests.metrics.PerformanceBudgets;
+import com.selenium.tests.network.HarRecorder;
+import com.selenium.tests.network.NetworkMonitor;
+import com.selenium.tests.retry.FailureClassifier;
+import com.selenium.tests.retry.InfraRetryAnalyzer;
+import org.apache.logging.log4j.ThreadContext;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.lang.reflect.Method;
+
 /**
  * Base test class for all Selenium tests
- * Handles WebDriver setup and teardown
+ * Leases a WebDriver from the shared driver pool before each test and returns it afterwards
+ * The driver is bound to the executing thread, so test classes are safe to run in parallel
+ * The log context (test, thread, driver) identifies the test in every log line written on its thread
+ * Infrastructure failures (lost browser, connection errors) are retried on a fresh driver by
+ * {@link InfraRetryAnalyzer}, which InfraRetryTransformer (testng.xml) attaches to every test without its own
+ * Read-only tests marked with {@link SharedPage} share one page load with the next test of the same page
+ * Page-load performance budgets are checked once all tests have run; in fail mode a breach fails the suite
  */
 public class BaseTest {
-    protected WebDriver driver;
     protected static final Logger logger = LogManager.getLogger(BaseTest.class);
 
     @BeforeMethod
-    public void setUp() {
-        logger.info("Setting up WebDriver...");
-        WebDriverManager.chromedriver().setup();
-        driver = new ChromeDriver();
-        driver.manage().window().maximize();
-        logger.info("WebDriver setup complete");
+    public void setUp(Method method) {
+        ThreadContext.put("test", method.getDeclaringClass().getSimpleName() + "." + method.getName());
+        ThreadContext.put("thread", Thread.currentThread().getName());
+        logger.info("Leasing WebDriver from pool...");
+        PooledDriver pooledDriver = leaseDriver(sharedPageOf(method));
+        DriverManager.bind(pooledDriver);
+        ThreadContext.put("driver", pooledDriver.getId());
+        NetworkMonitor.of(pooledDriver.getDriver()).ifPresent(NetworkMonitor::reset);
+        HarRecorder.of(pooledDriver.getDriver()).ifPresent(har -> har.start(ThreadContext.get("test")));
+        logger.info("WebDriver setup complete ({})", pooledDriver.getId());
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown(ITestResult result) {
+        if (DriverManager.hasDriver()) {
+            logger.info("Returning WebDriver to pool...");
+            PooledDriver pooledDriver = DriverManager.getPooledDriver();
+            NavigationTimingRecorder.getInstance().collect(pooledDriver.getDriver(), result);
+            NetworkMonitor.of(pooledDriver.getDriver()).ifPresent(monitor -> {
+                result.setAttribute("network", monitor.toMap());
+                logger.info("Network: {}", monitor);
+            });
+            HttpTransport.of(pooledDriver.getDriver()).ifPresent(stats -> result.setAttribute("transport", stats.toMap()));
+            HarRecorder.of(pooledDriver.getDriver()).ifPresent(har ->
+                har.finish(result.getStatus() == ITestResult.FAILURE).ifPresent(file -> result.setAttribute("har", file.toString())));
+            DriverManager.unbind();
+            boolean healthy = result.getStatus() != ITestResult.FAILURE && !FailureClassifier.isInfrastructure(result.getThrowable());
+            String keepPage = result.getStatus() == ITestResult.SUCCESS
+                ? sharedPageOf(result.getMethod().getConstructorOrMethod().getMethod()) : null;
+            DriverPool.getInstance().release(pooledDriver, healthy, keepPage);
+            logger.info("WebDriver returned");
+        }
+        ThreadContext.clearMap();
+    }
+
+    /**
+     * Leases a driver, retrying session start-up failures so they do not skip the rest of the class
+     */
+    private static PooledDriver leaseDriver(String sharedPage) {
+        int attempts = FrameworkConfig.getInt("retry.maxRetries", 1) + 1;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return DriverPool.getInstance().lease(sharedPage);
+            } catch (RuntimeException e) {
+                if (attempt >= attempts || !FailureClassifier.isInfrastructure(e)) {
+                    throw e;
+                }
+                logger.warn("Could not lease a WebDriver (attempt {}/{}): {}", attempt, attempts, e.toString());
+            }
+        }
     }
 
-    @AfterMethod
-    public void tearDown() {
-        if (driver != null) {
-            logger.info("Closing WebDriver...");
-            driver.quit();
-            logger.info("WebDriver closed");
+    /**
+     * Returns the {@link SharedPage} key of a test method (or its class), or null for regular tests
+     */
+    public static String sharedPageOf(Method method) {
+        SharedPage sharedPage = method.getAnnotation(SharedPage.class);
+        if (sharedPage == null) {
+            sharedPage = method.getDeclaringClass().getAnnotation(SharedPage.class);
         }
+        return sharedPage == null ? null : sharedPage.value();
+    }
+
+    /**
+     * Returns the WebDriver leased by the current test thread
+     */
+    protected WebDriver getDriver() {
+        return DriverManager.getDriver();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void shutDownDriverPool() {
+        DriverPool.getInstance().shutdown();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void checkPerformanceBudgets() {
+        PerformanceBudgets.getInstance().verify();
     }
 }
@@ -0,0 +1,27 @@
+package com.selenium.tests.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test (or all tests of a class) as read-only on one page, so consecutive tests can share a page load
+ *
+ * The browser of a passing shared-page test is returned to the pool without reset, and the next test with the
+ * same key prefers that browser if it is idle; in parallel runs another thread may hold it, and the test then
+ * loads the page on a different browser. Its navigateTo call is skipped when the page is still the one it loaded
+ * and nothing has been typed or clicked on it since. Tests that click, type or submit must not use it.
+ *
+ * Only tests of the same class are grouped: LongestFirstScheduler runs them back to back when it reorders the
+ * suite (schedule.longestFirst, no method dependencies). Tests of different classes are not moved together.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface SharedPage {
+
+    /**
+     * Page the test reads, e.g. "home"; tests of one class with the same key are scheduled together
+     */
+    String value();
+}
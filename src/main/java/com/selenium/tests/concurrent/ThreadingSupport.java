@@ -0,0 +1,107 @@
+package com.selenium.tests.concurrent;
+
+import com.selenium.tests.config.FrameworkConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the framework's background threads and executors, on virtual threads when enabled
+ * Almost all of the framework's threads spend their time blocked on WebDriver HTTP calls, disk or
+ * sockets, which is what virtual threads are for. The framework is compiled for Java 11, so virtual
+ * threads are created reflectively and only when the JVM supports them (Java 21+).
+ *
+ *   threads.virtual  use virtual threads (default false; the java21 Maven profile turns it on)
+ *
+ * Without virtual threads the same calls return daemon platform threads and bounded pools.
+ * Concurrency of browsers is limited by the driver pool's semaphore in both cases, not by thread counts.
+ */
+public final class ThreadingSupport {
+    private static final Logger logger = LogManager.getLogger(ThreadingSupport.class);
+
+    private static final boolean VIRTUAL = FrameworkConfig.getBoolean("threads.virtual", false) && virtualThreadsAvailable();
+
+    private ThreadingSupport() {
+    }
+
+    public static boolean isVirtual() {
+        return VIRTUAL;
+    }
+
+    /**
+     * Thread factory naming threads namePrefix-0, namePrefix-1, ...
+     */
+    public static ThreadFactory threadFactory(String namePrefix) {
+        if (VIRTUAL) {
+            try {
+                Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix + "-", 0L);
+                return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                logger.warn("Could not create virtual thread factory, using platform threads: {}", e.toString());
+            }
+        }
+        AtomicInteger next = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + next.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Executor with one thread per task when virtual threads are on, otherwise a fixed pool of platformThreads
+     */
+    public static ExecutorService newExecutor(String namePrefix, int platformThreads) {
+        return VIRTUAL ? newThreadPerTaskExecutor(namePrefix) : Executors.newFixedThreadPool(platformThreads, threadFactory(namePrefix));
+    }
+
+    /**
+     * Executor with one thread per task when virtual threads are on, otherwise a cached pool
+     */
+    public static ExecutorService newCachedExecutor(String namePrefix) {
+        return VIRTUAL ? newThreadPerTaskExecutor(namePrefix) : Executors.newCachedThreadPool(threadFactory(namePrefix));
+    }
+
+    /**
+     * Starts a single background thread (a daemon platform thread, or a virtual thread)
+     */
+    public static Thread startThread(String name, Runnable task) {
+        Thread thread = threadFactory(name).newThread(task);
+        thread.setName(name);
+        thread.start();
+        return thread;
+    }
+
+    private static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                .invoke(null, threadFactory(namePrefix));
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Could not create virtual thread executor, using a cached pool: {}", e.toString());
+            return Executors.newCachedThreadPool(threadFactory(namePrefix));
+        }
+    }
+
+    /**
+     * Virtual threads are final from Java 21; on 19/20 they need --enable-preview and fail without it
+     */
+    private static boolean virtualThreadsAvailable() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class).invoke(builder, (Runnable) () -> { });
+            return true;
+        } catch (NoSuchMethodException | ClassNotFoundException e) {
+            logger.warn("threads.virtual=true ignored: virtual threads need Java 21 (running {})", System.getProperty("java.version"));
+        } catch (InvocationTargetException | IllegalAccessException e) {
+            logger.warn("threads.virtual=true ignored: virtual threads are not available ({})", e.getCause() != null ? e.getCause() : e);
+        }
+        return false;
+    }
+}
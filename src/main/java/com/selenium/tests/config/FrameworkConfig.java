@@ -0,0 +1,48 @@
+package com.selenium.tests.config;
+
+import java.time.Duration;
+
+/**
+ * Central access point for framework settings
+ * Values are read from system properties (e.g. -Ddriver.pool.size=4) with sensible defaults
+ */
+public final class FrameworkConfig {
+
+    private FrameworkConfig() {
+    }
+
+    public static String getString(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("System property '" + key + "' must be an integer but was: " + value, e);
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = getString(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Sets a property only when the user has not provided a value on the command line
+     */
+    public static void setDefault(String key, String value) {
+        if (getString(key, null) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    public static Duration getSeconds(String key, long defaultSeconds) {
+        return Duration.ofSeconds(getInt(key, (int) defaultSeconds));
+    }
+}
@@ -0,0 +1,82 @@
+package com.selenium.tests.driver;
+
+import com.selenium.tests.config.FrameworkConfig;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * Browser configurations selectable with -Dbrowser.profile=full|fast
+ *
+ * FULL keeps the original behaviour: a visible, maximised browser that waits for the full page load.
+ * Use it for visual runs and debugging.
+ *
+ * FAST is tuned for DOM-only assertions: headless with a fixed viewport, eager page loads,
+ * no extensions or background networking, and optional blocking of images, fonts and media.
+ *
+ * Both profiles keep the browser console log (goog:loggingPrefs) so it can be saved when a test fails.
+ *
+ *   browser.profile      full or fast (default full)
+ *   browser.headless     run headless (default true for fast, false for full)
+ *   browser.viewport     window size used instead of maximize (default 1920x1080)
+ *   browser.blockAssets  block images, web fonts and media autoplay in the fast profile (default false)
+ */
+public enum BrowserProfile {
+    FULL,
+    FAST;
+
+    public static BrowserProfile current() {
+        String name = FrameworkConfig.getString("browser.profile", "full");
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown browser.profile '" + name + "' (expected full or fast)", e);
+        }
+    }
+
+    public ChromeOptions createOptions() {
+        ChromeOptions options = new ChromeOptions();
+        LoggingPreferences logging = new LoggingPreferences();
+        logging.enable(LogType.BROWSER, Level.ALL);
+        options.setCapability(ChromeOptions.LOGGING_PREFS, logging);
+        if (FrameworkConfig.getBoolean("browser.headless", this == FAST)) {
+            options.addArguments("--headless=new");
+        }
+        if (this == FAST) {
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+            options.addArguments(
+                "--window-size=" + FrameworkConfig.getString("browser.viewport", "1920x1080").replace('x', ','),
+                "--disable-extensions",
+                "--disable-background-networking",
+                "--disable-component-update",
+                "--disable-default-apps",
+                "--disable-sync",
+                "--no-first-run",
+                "--metrics-recording-only");
+            if (FrameworkConfig.getBoolean("browser.blockAssets", false)) {
+                Map<String, Object> prefs = new HashMap<>();
+                prefs.put("profile.managed_default_content_settings.images", 2);
+                options.setExperimentalOption("prefs", prefs);
+                options.addArguments(
+                    "--blink-settings=imagesEnabled=false",
+                    "--disable-remote-fonts",
+                    "--autoplay-policy=user-gesture-required",
+                    "--mute-audio");
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Whether the window should be maximised after start-up (fast runs use a fixed viewport instead)
+     */
+    public boolean maximizeWindow() {
+        return this == FULL;
+    }
+}
@@ -0,0 +1,86 @@
+package com.selenium.tests.driver;
+
+import com.selenium.tests.network.DevToolsSupport;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cookies and storage of a pooled browser across every origin it has loaded documents from
+ * WebDriver can only clear the current document's cookies and storage; through the DevTools protocol the
+ * pool clears all cookies and the storage of each origin a test visited (recorded from Page.frameNavigated).
+ */
+final class BrowserState {
+    private static final Logger logger = LogManager.getLogger(BrowserState.class);
+
+    private static final String STORAGE_TYPES = "local_storage,indexeddb,websql,cache_storage,service_workers,file_systems";
+
+    private final DevTools devTools;
+    private final Set<String> origins = ConcurrentHashMap.newKeySet();
+
+    private BrowserState(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * Starts recording the origins a browser visits; without DevTools support nothing is recorded
+     */
+    static BrowserState track(WebDriver driver) {
+        Optional<DevTools> maybeDevTools;
+        try {
+            maybeDevTools = DevToolsSupport.open(driver);
+        } catch (RuntimeException e) {
+            logger.debug("DevTools not available for state resets: {}", e.getMessage());
+            maybeDevTools = Optional.empty();
+        }
+        if (maybeDevTools.isEmpty()) {
+            return new BrowserState(null);
+        }
+        BrowserState state = new BrowserState(maybeDevTools.get());
+        state.devTools.addListener(DevToolsSupport.event("Page.frameNavigated"), params -> {
+            Object origin = DevToolsSupport.get(params, "frame.securityOrigin");
+            if (origin instanceof String && ((String) origin).contains("://")) {
+                state.origins.add((String) origin);
+            }
+        });
+        DevToolsSupport.send(state.devTools, "Page.enable", new HashMap<>());
+        return state;
+    }
+
+    /**
+     * Clears all cookies and the local, session and other storage of every visited origin
+     *
+     * @return false when the browser has no DevTools support and only the current document can be cleared
+     */
+    boolean clear() {
+        if (devTools == null) {
+            return false;
+        }
+        DevToolsSupport.send(devTools, "Network.clearBrowserCookies", new HashMap<>());
+        for (String origin : origins) {
+            Map<String, Object> storage = new HashMap<>();
+            storage.put("origin", origin);
+            storage.put("storageTypes", STORAGE_TYPES);
+            Map<String, Object> storageId = new HashMap<>();
+            storageId.put("securityOrigin", origin);
+            storageId.put("isLocalStorage", false);
+            Map<String, Object> sessionStorage = new HashMap<>();
+            sessionStorage.put("storageId", storageId);
+            try {
+                DevToolsSupport.send(devTools, "Storage.clearDataForOrigin", storage);
+                DevToolsSupport.send(devTools, "DOMStorage.clear", sessionStorage);
+            } catch (RuntimeException e) {
+                logger.debug("Could not clear storage of {}: {}", origin, e.getMessage());
+            }
+        }
+        origins.clear();
+        return true;
+    }
+}
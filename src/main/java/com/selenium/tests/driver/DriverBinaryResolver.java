@@ -0,0 +1,119 @@
+package com.selenium.tests.driver;
+
+import com.selenium.tests.config.FrameworkConfig;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the chromedriver binary once per JVM and shares the result between all threads
+ *
+ * Online mode (default) asks WebDriverManager to detect and download a matching driver.
+ * Offline mode (-Dchromedriver.offline=true) never touches the network: it uses the binary
+ * given by chromedriver.path or, failing that, a matching binary in the local cache.
+ *
+ *   chromedriver.offline  resolve from local files only (default false)
+ *   chromedriver.path     pinned chromedriver executable
+ *   chromedriver.version  pinned driver version (also narrows the offline cache lookup)
+ *   chromedriver.cache    cache directory (default ~/.cache/selenium, the WebDriverManager default)
+ */
+public final class DriverBinaryResolver {
+    private static final Logger logger = LogManager.getLogger(DriverBinaryResolver.class);
+
+    private static final Pattern VERSION_DIR = Pattern.compile("\\d{1,9}(\\.\\d{1,9})+");
+
+    private static volatile Path resolvedPath;
+
+    private DriverBinaryResolver() {
+    }
+
+    /**
+     * Returns the chromedriver executable, resolving it on the first call only
+     */
+    public static Path getChromeDriverPath() {
+        Path path = resolvedPath;
+        if (path == null) {
+            synchronized (DriverBinaryResolver.class) {
+                path = resolvedPath;
+                if (path == null) {
+                    long start = System.nanoTime();
+                    path = resolve();
+                    resolvedPath = path;
+                    logger.info("Resolved chromedriver at {} in {} ms", path, (System.nanoTime() - start) / 1_000_000);
+                }
+            }
+        }
+        return path;
+    }
+
+    private static Path resolve() {
+        String pinnedPath = FrameworkConfig.getString("chromedriver.path", null);
+        if (pinnedPath != null) {
+            return requireExecutable(Paths.get(pinnedPath));
+        }
+        String version = FrameworkConfig.getString("chromedriver.version", null);
+        Path cacheDir = Paths.get(FrameworkConfig.getString("chromedriver.cache",
+            Paths.get(System.getProperty("user.home"), ".cache", "selenium").toString()));
+
+        if (FrameworkConfig.getBoolean("chromedriver.offline", false)) {
+            return findCachedBinary(cacheDir, version).orElseThrow(() -> new IllegalStateException(
+                "Offline mode: no chromedriver" + (version == null ? "" : " " + version) + " found in " + cacheDir
+                    + ". Set -Dchromedriver.path or run once online to populate the cache."));
+        }
+
+        WebDriverManager manager = WebDriverManager.chromedriver().cachePath(cacheDir.toString());
+        if (version != null) {
+            manager.driverVersion(version);
+        }
+        manager.setup();
+        return requireExecutable(Paths.get(manager.getDownloadedDriverPath()));
+    }
+
+    private static Optional<Path> findCachedBinary(Path cacheDir, String version) {
+        if (!Files.isDirectory(cacheDir)) {
+            return Optional.empty();
+        }
+        String binaryName = System.getProperty("os.name").toLowerCase().contains("win") ? "chromedriver.exe" : "chromedriver";
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            return files
+                .filter(p -> p.getFileName().toString().equals(binaryName))
+                .filter(Files::isExecutable)
+                .filter(p -> version == null || p.toString().contains(version))
+                .max(Comparator.comparing(DriverBinaryResolver::versionOf, Arrays::compare).thenComparing(Path::toString));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not scan chromedriver cache " + cacheDir, e);
+        }
+    }
+
+    /**
+     * Version of a cached binary, parsed from the nearest directory named like "120.0.6099.71"
+     * Components compare numerically, so 120.0.6099.71 is newer than 119.0.6045.105; empty when unversioned.
+     */
+    private static int[] versionOf(Path binary) {
+        for (Path dir = binary.getParent(); dir != null && dir.getFileName() != null; dir = dir.getParent()) {
+            String name = dir.getFileName().toString();
+            if (VERSION_DIR.matcher(name).matches()) {
+                return Arrays.stream(name.split("\\.")).mapToInt(Integer::parseInt).toArray();
+            }
+        }
+        return new int[0];
+    }
+
+    private static Path requireExecutable(Path path) {
+        if (!Files.isExecutable(path)) {
+            throw new IllegalStateException("chromedriver is not an executable file: " + path);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,99 @@
+package com.selenium.tests.driver;
+
+import com.selenium.tests.config.FrameworkConfig;
+import com.selenium.tests.metrics.CommandLatencyStatistics;
+import com.selenium.tests.metrics.CommandTimingListener;
+import com.selenium.tests.network.HarRecorder;
+import com.selenium.tests.network.NetworkPolicy;
+import com.selenium.tests.pages.BasePage;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+
+/**
+ * Creates new browser sessions for the driver pool
+ * Sessions run on a local ChromeDriver, or on a Selenium standalone server/grid when driver.remote.url is set
+ * The local chromedriver binary is resolved once per JVM by {@link DriverBinaryResolver}
+ * and browser options come from the selected {@link BrowserProfile}
+ * The suite's {@link NetworkPolicy} and, when enabled, a {@link HarRecorder} are installed on every new browser.
+ * Drivers are wrapped with a {@link CommandTimingListener} so every command's latency is recorded.
+ * Wire-protocol traffic goes through the tuned {@link HttpTransport}, shared across remote sessions.
+ */
+public class DriverFactory {
+    private static final Logger logger = LogManager.getLogger(DriverFactory.class);
+
+    private final BrowserProfile profile = BrowserProfile.current();
+    private final URL remoteUrl = remoteUrl(FrameworkConfig.getString("driver.remote.url", null));
+    private final HttpTransport transport = HttpTransport.getInstance();
+
+    public WebDriver createDriver() {
+        ChromeOptions options = profile.createOptions();
+        TransportStats stats = transport.newSession(remoteUrl != null);
+        WebDriver driver = remoteUrl == null ? startLocal(options, stats) : startRemote(options, stats);
+        try {
+            transport.register(driver, stats);
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+            if (profile.maximizeWindow()) {
+                driver.manage().window().maximize();
+            }
+            NetworkPolicy.getInstance().apply(driver);
+            HarRecorder.install(driver);
+            if (CommandLatencyStatistics.getInstance().isEnabled()) {
+                return new EventFiringDecorator<>(new CommandTimingListener(BasePage.class)).decorate(driver);
+            }
+            return driver;
+        } catch (RuntimeException e) {
+            // The session is already running; quit it (and the local chromedriver) rather than leak it
+            try {
+                driver.quit();
+            } catch (RuntimeException quitFailure) {
+                e.addSuppressed(quitFailure);
+            }
+            throw e;
+        }
+    }
+
+    private WebDriver startLocal(ChromeOptions options, TransportStats stats) {
+        logger.info("Starting new ChromeDriver session ({} profile)...", profile);
+        ChromeDriverService service = new ChromeDriverService.Builder()
+            .usingDriverExecutable(DriverBinaryResolver.getChromeDriverPath().toFile())
+            .usingAnyFreePort()
+            .build();
+        return new ChromeDriver(service, options, transport.localConfig(stats));
+    }
+
+    /**
+     * Starts a session on the remote endpoint; the Augmenter adds DevTools support when the grid exposes CDP
+     */
+    private WebDriver startRemote(ChromeOptions options, TransportStats stats) {
+        logger.info("Starting new remote Chrome session on {} ({} profile)...", remoteUrl, profile);
+        RemoteWebDriver driver = new RemoteWebDriver(transport.remoteExecutor(remoteUrl, stats), options);
+        try {
+            return new Augmenter().augment(driver);
+        } catch (RuntimeException e) {
+            logger.warn("Could not augment remote session {}: {}", driver.getSessionId(), e.getMessage());
+            return driver;
+        }
+    }
+
+    private static URL remoteUrl(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new URL(value);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("driver.remote.url is not a valid URL: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.selenium.tests.driver;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Binds leased drivers to the current test thread
+ * Allows tests and page objects to run safely with TestNG parallel="methods" or parallel="classes"
+ */
+public final class DriverManager {
+    private static final ThreadLocal<PooledDriver> CURRENT = new ThreadLocal<>();
+
+    private DriverManager() {
+    }
+
+    public static void bind(PooledDriver pooledDriver) {
+        CURRENT.set(pooledDriver);
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    public static boolean hasDriver() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Returns the driver leased by the current thread
+     *
+     * @throws IllegalStateException if no driver is bound to this thread
+     */
+    public static PooledDriver getPooledDriver() {
+        PooledDriver pooledDriver = CURRENT.get();
+        if (pooledDriver == null) {
+            throw new IllegalStateException("No WebDriver bound to thread " + Thread.currentThread().getName()
+                + ". Page objects must be created from a test that extends BaseTest.");
+        }
+        return pooledDriver;
+    }
+
+    public static WebDriver getDriver() {
+        return getPooledDriver().getDriver();
+    }
+}
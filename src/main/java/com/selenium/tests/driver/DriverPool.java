@@ -0,0 +1,299 @@
+package com.selenium.tests.driver;
+
+import com.selenium.tests.concurrent.ThreadingSupport;
+import com.selenium.tests.config.FrameworkConfig;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of running browser sessions
+ * Tests lease a driver instead of starting a new browser, and the pool resets
+ * the session (cookies, storage, extra windows, about:blank) when it is returned.
+ * Sessions are recycled after a configurable number of leases or after a failure.
+ * Browsers of passing shared-page tests are returned without reset; the next shared-page lease with the same
+ * key prefers them, and any other lease resets them first.
+ * The number of browsers is bounded by a fair semaphore rather than by threads, so leases may come from
+ * any number of platform or virtual threads; idle browsers are quit concurrently on shutdown.
+ *
+ * Configuration (system properties):
+ *   driver.pool.size          maximum number of concurrent browsers (default 1)
+ *   driver.pool.maxLeases     leases before a browser is restarted (default 25)
+ *   driver.pool.leaseTimeout  seconds to wait for a free browser (default 120)
+ */
+public class DriverPool {
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+
+    private static DriverPool instance;
+
+    private final int maxSize;
+    private final int maxLeasesPerDriver;
+    private final Duration leaseTimeout;
+    private final Supplier<WebDriver> driverSupplier;
+
+    private final Semaphore permits;
+    private final Deque<PooledDriver> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final AtomicBoolean shutdown = new AtomicBoolean();
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder returns = new LongAdder();
+    private final LongAdder recycled = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder totalLeaseWaitNanos = new LongAdder();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+
+    public DriverPool(int maxSize, int maxLeasesPerDriver, Duration leaseTimeout, Supplier<WebDriver> driverSupplier) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Driver pool size must be at least 1 but was " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.maxLeasesPerDriver = Math.max(1, maxLeasesPerDriver);
+        this.leaseTimeout = leaseTimeout;
+        this.driverSupplier = driverSupplier;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Returns the framework-wide pool, configured from system properties on first use
+     */
+    public static synchronized DriverPool getInstance() {
+        if (instance == null) {
+            DriverFactory factory = new DriverFactory();
+            instance = new DriverPool(
+                FrameworkConfig.getInt("driver.pool.size", 1),
+                FrameworkConfig.getInt("driver.pool.maxLeases", 25),
+                FrameworkConfig.getSeconds("driver.pool.leaseTimeout", 120),
+                factory::createDriver);
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::shutdown, "driver-pool-shutdown"));
+            logger.info("Driver pool initialised (size={}, maxLeases={})", instance.maxSize, instance.maxLeasesPerDriver);
+        }
+        return instance;
+    }
+
+    /**
+     * Leases a browser, reusing an idle one when available
+     * Blocks until a slot is free or the lease timeout elapses
+     */
+    public PooledDriver lease() {
+        return lease(null);
+    }
+
+    /**
+     * Leases a browser for a test that reads the given shared page, or for a regular test when sharedPage is null
+     */
+    public PooledDriver lease(String sharedPage) {
+        if (shutdown.get()) {
+            throw new IllegalStateException("Driver pool has been shut down");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(leaseTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Timed out after " + leaseTimeout.toSeconds()
+                    + "s waiting for a free driver (pool size " + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a driver", e);
+        }
+        recordLeaseWait(System.nanoTime() - start);
+
+        PooledDriver pooled = takeIdle(sharedPage);
+        // A browser kept on another shared page (or taken by a regular test) must not leak that page's state
+        if (pooled != null && pooled.getKeptPage() != null && !pooled.getKeptPage().equals(sharedPage) && !reset(pooled)) {
+            discarded.increment();
+            quit(pooled);
+            pooled = null;
+        }
+        if (pooled == null) {
+            try {
+                pooled = new PooledDriver("driver-" + nextId.incrementAndGet(), driverSupplier.get());
+                created.increment();
+                logger.info("Started browser {}", pooled.getId());
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+        pooled.markLeased();
+        leases.increment();
+        inUse.incrementAndGet();
+        logger.debug("Leased {}", pooled);
+        return pooled;
+    }
+
+    /**
+     * Returns a leased browser to the pool
+     *
+     * @param pooled  driver obtained from {@link #lease()}
+     * @param healthy false when the test failed, in which case the browser is discarded
+     */
+    public void release(PooledDriver pooled, boolean healthy) {
+        release(pooled, healthy, null);
+    }
+
+    /**
+     * Returns a leased browser to the pool, keeping its current page for the next test of the shared page
+     *
+     * @param keepPage shared page key, or null to reset the browser
+     */
+    public void release(PooledDriver pooled, boolean healthy, String keepPage) {
+        returns.increment();
+        inUse.decrementAndGet();
+        try {
+            if (shutdown.get()) {
+                quit(pooled);
+            } else if (!healthy) {
+                logger.info("Discarding {} after a failed test", pooled);
+                discarded.increment();
+                quit(pooled);
+            } else if (pooled.getLeaseCount() >= maxLeasesPerDriver) {
+                logger.info("Recycling {} after reaching the lease limit", pooled);
+                recycled.increment();
+                quit(pooled);
+            } else if (keepPage != null) {
+                pooled.setKeptPage(keepPage);
+                idle.offerFirst(pooled);
+            } else if (reset(pooled)) {
+                idle.offerFirst(pooled);
+            } else {
+                discarded.increment();
+                quit(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Quits every idle browser and rejects further leases; only the first call (AfterSuite or the JVM
+     * shutdown hook) does the work
+     */
+    public void shutdown() {
+        if (!shutdown.compareAndSet(false, true)) {
+            return;
+        }
+        List<PooledDriver> drivers = new ArrayList<>();
+        for (Iterator<PooledDriver> it = idle.iterator(); it.hasNext(); ) {
+            drivers.add(it.next());
+            it.remove();
+        }
+        quitAll(drivers);
+        HttpTransport.active().ifPresent(HttpTransport::close);
+        logger.info("Driver pool shut down: {}", getMetrics());
+    }
+
+    public DriverPoolMetrics getMetrics() {
+        return new DriverPoolMetrics(
+            created.sum(), leases.sum(), returns.sum(), recycled.sum(), discarded.sum(),
+            idle.size(), inUse.get(),
+            TimeUnit.NANOSECONDS.toMillis(totalLeaseWaitNanos.sum()),
+            TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get()));
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Takes an idle browser, preferring one that shows the requested shared page (or, for regular tests,
+     * one that needs no reset)
+     */
+    private PooledDriver takeIdle(String sharedPage) {
+        for (PooledDriver candidate : idle) {
+            if (Objects.equals(candidate.getKeptPage(), sharedPage) && idle.remove(candidate)) {
+                return candidate;
+            }
+        }
+        return idle.pollFirst();
+    }
+
+    /**
+     * Brings a browser back to a neutral state: only its original window, no cookies or storage, about:blank
+     * Cookies and storage are cleared for every origin the test visited when the browser supports DevTools,
+     * otherwise only for the current document.
+     */
+    private boolean reset(PooledDriver pooled) {
+        WebDriver driver = pooled.getDriver();
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            String primary = pooled.getPrimaryHandle();
+            if (primary == null || !handles.contains(primary)) {
+                // The test closed the original window; keep whichever is left
+                primary = handles.iterator().next();
+                pooled.setPrimaryHandle(primary);
+            }
+            for (String handle : handles) {
+                if (!handle.equals(primary)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(primary);
+            if (!pooled.getBrowserState().clear()) {
+                driver.manage().deleteAllCookies();
+                ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            }
+            driver.navigate().to("about:blank");
+            pooled.setKeptPage(null);
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Could not reset {}: {}", pooled, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Quits the browsers concurrently; each quit is a blocking round trip to the driver or grid
+     */
+    private void quitAll(List<PooledDriver> drivers) {
+        if (drivers.size() <= 1) {
+            drivers.forEach(this::quit);
+            return;
+        }
+        ExecutorService executor = ThreadingSupport.newExecutor("driver-pool-quit", Math.min(drivers.size(), maxSize));
+        drivers.forEach(pooled -> executor.execute(() -> quit(pooled)));
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
+                logger.warn("Browsers still quitting after 60s; continuing shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void quit(PooledDriver pooled) {
+        try {
+            pooled.getDriver().quit();
+            logger.info("Closed browser {}", pooled.getId());
+        } catch (RuntimeException e) {
+            logger.warn("Error while quitting {}: {}", pooled, e.getMessage());
+        }
+    }
+
+    private void recordLeaseWait(long nanos) {
+        totalLeaseWaitNanos.add(nanos);
+        maxLeaseWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+}
@@ -0,0 +1,81 @@
+package com.selenium.tests.driver;
+
+/**
+ * Immutable snapshot of {@link DriverPool} activity
+ */
+public final class DriverPoolMetrics {
+    private final long created;
+    private final long leases;
+    private final long returns;
+    private final long recycled;
+    private final long discarded;
+    private final int idle;
+    private final int inUse;
+    private final long totalLeaseWaitMillis;
+    private final long maxLeaseWaitMillis;
+
+    DriverPoolMetrics(long created, long leases, long returns, long recycled, long discarded,
+                      int idle, int inUse, long totalLeaseWaitMillis, long maxLeaseWaitMillis) {
+        this.created = created;
+        this.leases = leases;
+        this.returns = returns;
+        this.recycled = recycled;
+        this.discarded = discarded;
+        this.idle = idle;
+        this.inUse = inUse;
+        this.totalLeaseWaitMillis = totalLeaseWaitMillis;
+        this.maxLeaseWaitMillis = maxLeaseWaitMillis;
+    }
+
+    /** Number of browser sessions started by the pool */
+    public long getCreated() {
+        return created;
+    }
+
+    public long getLeases() {
+        return leases;
+    }
+
+    public long getReturns() {
+        return returns;
+    }
+
+    /** Sessions quit because they reached the configured lease limit */
+    public long getRecycled() {
+        return recycled;
+    }
+
+    /** Sessions quit because a test failed or the state reset did not succeed */
+    public long getDiscarded() {
+        return discarded;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public int getInUse() {
+        return inUse;
+    }
+
+    public long getTotalLeaseWaitMillis() {
+        return totalLeaseWaitMillis;
+    }
+
+    public long getMaxLeaseWaitMillis() {
+        return maxLeaseWaitMillis;
+    }
+
+    /** Fraction of leases served by an already running browser */
+    public double getReuseRatio() {
+        return leases == 0 ? 0.0 : Math.max(0, leases - created) / (double) leases;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("created=%d, leases=%d, returns=%d, recycled=%d, discarded=%d, idle=%d, inUse=%d, "
+                + "reuse=%.0f%%, leaseWait(total=%dms, max=%dms)",
+            created, leases, returns, recycled, discarded, idle, inUse,
+            getReuseRatio() * 100, totalLeaseWaitMillis, maxLeaseWaitMillis);
+    }
+}
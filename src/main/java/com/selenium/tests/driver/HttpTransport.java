@@ -0,0 +1,211 @@
+package com.selenium.tests.driver;
+
+import com.selenium.tests.config.FrameworkConfig;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HTTP transport for the WebDriver wire protocol, tuned once and used by every session the factory starts
+ * Remote sessions share one HTTP client (and so its pool of keep-alive connections) per grid endpoint
+ * instead of opening a new client per session; local sessions each talk to their own chromedriver port,
+ * so they get the tuned settings on a private client.
+ *
+ *   driver.http.connectTimeout  seconds to establish a connection (default 10)
+ *   driver.http.readTimeout     seconds to wait for a command response (default 180)
+ *   driver.http.version         HTTP_1_1 or HTTP_2 (default HTTP_1_1; chromedriver and plain-http grids
+ *                               only speak HTTP/1.1, so HTTP_2 only pays off for grids behind TLS)
+ *   driver.http.keepAlive       seconds an idle connection is kept open (default: JDK default); read by the JDK
+ *                               client only at class load, so the pom turns it into -Djdk.httpclient.keepalive.timeout
+ *                               for the forked test JVM; it applies to Selenium's default jdk-http-client factory
+ *   driver.http.shared          share one client per remote endpoint across sessions (default true)
+ *
+ * Wire-protocol requests, errors and latency are counted per session by {@link TransportStats}.
+ */
+public final class HttpTransport {
+    private static final Logger logger = LogManager.getLogger(HttpTransport.class);
+
+    private static volatile HttpTransport instance;
+
+    private final ClientConfig baseConfig;
+    private final boolean shared;
+    private final HttpClient.Factory clientFactory = HttpClient.Factory.createDefault();
+    private final Map<URI, HttpClient> sharedClients = new ConcurrentHashMap<>();
+    private final List<TransportStats> sessions = Collections.synchronizedList(new ArrayList<>());
+    private final Map<WebDriver, TransportStats> statsByDriver = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private HttpTransport(ClientConfig baseConfig, boolean shared) {
+        this.baseConfig = baseConfig;
+        this.shared = shared;
+    }
+
+    public static synchronized HttpTransport getInstance() {
+        if (instance == null) {
+            String keepAlive = FrameworkConfig.getString("driver.http.keepAlive", null);
+            if (keepAlive != null && !keepAlive.equals(System.getProperty("jdk.httpclient.keepalive.timeout"))) {
+                logger.warn("driver.http.keepAlive={} ignored: pass -Djdk.httpclient.keepalive.timeout={} to the JVM "
+                    + "(the Maven build does this for forked test JVMs)", keepAlive, keepAlive);
+            }
+            String version = FrameworkConfig.getString("driver.http.version", "HTTP_1_1").toUpperCase(Locale.ROOT);
+            if (!"HTTP_1_1".equals(version) && !"HTTP_2".equals(version)) {
+                throw new IllegalArgumentException("driver.http.version must be HTTP_1_1 or HTTP_2 but was " + version);
+            }
+            ClientConfig config = ClientConfig.defaultConfig()
+                .connectionTimeout(FrameworkConfig.getSeconds("driver.http.connectTimeout", 10))
+                .readTimeout(FrameworkConfig.getSeconds("driver.http.readTimeout", 180))
+                .version(version);
+            instance = new HttpTransport(config, FrameworkConfig.getBoolean("driver.http.shared", true));
+            logger.info("WebDriver HTTP transport: {}, connect timeout {}s, read timeout {}s, shared: {}",
+                version, config.connectionTimeout().toSeconds(), config.readTimeout().toSeconds(), instance.shared);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the transport once the driver factory has initialised it
+     */
+    public static synchronized Optional<HttpTransport> active() {
+        return Optional.ofNullable(instance);
+    }
+
+    /**
+     * Creates the counters for a session that is about to start
+     */
+    public TransportStats newSession(boolean remote) {
+        TransportStats stats = new TransportStats(remote && shared ? "shared" : "private");
+        sessions.add(stats);
+        return stats;
+    }
+
+    /**
+     * Client settings for a local driver; the driver service opens its own client with them
+     */
+    public ClientConfig localConfig(TransportStats stats) {
+        stats.clientOpened();
+        return baseConfig.withFilter(stats);
+    }
+
+    /**
+     * Command executor for a remote session, on the endpoint's shared client when sharing is enabled
+     */
+    public CommandExecutor remoteExecutor(URL remoteUrl, TransportStats stats) {
+        ClientConfig config = baseConfig.baseUrl(remoteUrl);
+        return new HttpCommandExecutor(Collections.emptyMap(), config, clientConfig -> {
+            if (!shared) {
+                stats.clientOpened();
+                return new SessionClient(clientFactory.createClient(clientConfig), stats, true);
+            }
+            HttpClient client = sharedClients.computeIfAbsent(clientConfig.baseUri(), uri -> {
+                stats.clientOpened();
+                logger.info("Opened shared WebDriver HTTP client for {}", uri);
+                return clientFactory.createClient(clientConfig);
+            });
+            return new SessionClient(client, stats, false);
+        });
+    }
+
+    public void register(WebDriver driver, TransportStats stats) {
+        statsByDriver.put(driver, stats);
+    }
+
+    /**
+     * Returns the transport counters of a browser, looking through decorated (e.g. instrumented) drivers
+     */
+    public static Optional<TransportStats> of(WebDriver driver) {
+        HttpTransport transport = instance;
+        if (transport == null) {
+            return Optional.empty();
+        }
+        TransportStats stats = transport.statsByDriver.get(driver);
+        if (stats == null && driver instanceof WrapsDriver) {
+            stats = transport.statsByDriver.get(((WrapsDriver) driver).getWrappedDriver());
+        }
+        return Optional.ofNullable(stats);
+    }
+
+    public boolean isEmpty() {
+        return sessions.isEmpty();
+    }
+
+    public String getSummary() {
+        List<TransportStats> snapshot;
+        synchronized (sessions) {
+            snapshot = new ArrayList<>(sessions);
+        }
+        long requests = snapshot.stream().mapToLong(TransportStats::getRequests).sum();
+        int clients = snapshot.stream().mapToInt(TransportStats::getClients).sum();
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%s, connect timeout %ds, read timeout %ds%n",
+            baseConfig.version(), baseConfig.connectionTimeout().toSeconds(), baseConfig.readTimeout().toSeconds()));
+        summary.append(String.format("%d sessions, %d HTTP clients opened, %d requests%n%n",
+            snapshot.size(), clients, requests));
+        summary.append(String.format("%-36s %-9s %8s %9s %7s %10s %9s%n",
+            "Session", "Transport", "Clients", "Requests", "Errors", "Mean (ms)", "Max (ms)"));
+        for (TransportStats stats : snapshot) {
+            summary.append(String.format("%-36s %-9s %8d %9d %7d %10.1f %9d%n",
+                stats.getSessionId() == null ? "(not started)" : stats.getSessionId(), stats.getTransport(),
+                stats.getClients(), stats.getRequests(), stats.getErrors(), stats.getMeanMillis(), stats.getMaxMillis()));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Closes the shared clients; call once every remote session has quit
+     */
+    public void close() {
+        sharedClients.values().forEach(HttpClient::close);
+        sharedClients.clear();
+    }
+
+    /**
+     * Client handed to one session: counts its traffic and leaves a shared client open when the session quits
+     */
+    private static final class SessionClient implements HttpClient {
+        private final HttpClient delegate;
+        private final HttpHandler counted;
+        private final boolean owned;
+
+        SessionClient(HttpClient delegate, TransportStats stats, boolean owned) {
+            this.delegate = delegate;
+            this.counted = stats.andFinally(delegate);
+            this.owned = owned;
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            return counted.execute(request);
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return delegate.openSocket(request, listener);
+        }
+
+        @Override
+        public void close() {
+            if (owned) {
+                delegate.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.selenium.tests.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A browser session owned by {@link DriverPool}
+ * Tracks how often the session has been leased so the pool can recycle it,
+ * and which shared page (if any) it was returned on without a reset.
+ * The window the session started with is remembered so resets keep that one and close the others.
+ */
+public class PooledDriver {
+    private static final Logger logger = LogManager.getLogger(PooledDriver.class);
+
+    private final String id;
+    private final WebDriver driver;
+    private final BrowserState browserState;
+    private String primaryHandle;
+    private int leaseCount;
+    private volatile String keptPage;
+
+    PooledDriver(String id, WebDriver driver) {
+        this.id = id;
+        this.driver = driver;
+        this.browserState = BrowserState.track(driver);
+        try {
+            this.primaryHandle = driver.getWindowHandle();
+        } catch (RuntimeException e) {
+            logger.debug("Could not read the initial window of {}: {}", id, e.getMessage());
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    BrowserState getBrowserState() {
+        return browserState;
+    }
+
+    /**
+     * Handle of the window the session started with, or null if it could not be read
+     */
+    String getPrimaryHandle() {
+        return primaryHandle;
+    }
+
+    void setPrimaryHandle(String primaryHandle) {
+        this.primaryHandle = primaryHandle;
+    }
+
+    public int getLeaseCount() {
+        return leaseCount;
+    }
+
+    void markLeased() {
+        leaseCount++;
+    }
+
+    /**
+     * Key of the shared page the browser still shows, or null after a reset
+     */
+    String getKeptPage() {
+        return keptPage;
+    }
+
+    void setKeptPage(String keptPage) {
+        this.keptPage = keptPage;
+    }
+
+    @Override
+    public String toString() {
+        return id + " (leases=" + leaseCount + ")";
+    }
+}
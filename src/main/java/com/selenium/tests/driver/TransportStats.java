@@ -0,0 +1,117 @@
+package com.selenium.tests.driver;
+
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Wire-protocol counters of one browser session, collected by a filter on its HTTP client
+ * Clients counts the HTTP clients (connection pools) the session opened: 1 for a private transport,
+ * 0 when it joined a shared transport that was already open.
+ */
+public final class TransportStats implements Filter {
+    private static final Pattern SESSION_PATH = Pattern.compile("/session/([^/]+)");
+
+    private final String transport;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private volatile int clients;
+    private volatile String sessionId;
+
+    TransportStats(String transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public HttpHandler apply(HttpHandler next) {
+        return request -> {
+            if (sessionId == null) {
+                Matcher matcher = SESSION_PATH.matcher(request.getUri());
+                if (matcher.find()) {
+                    sessionId = matcher.group(1);
+                }
+            }
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                HttpResponse response = next.execute(request);
+                failed = response.getStatus() >= 500;
+                return response;
+            } finally {
+                long nanos = System.nanoTime() - start;
+                requests.increment();
+                totalNanos.add(nanos);
+                maxNanos.accumulateAndGet(nanos, Math::max);
+                if (failed) {
+                    errors.increment();
+                }
+            }
+        };
+    }
+
+    void clientOpened() {
+        clients++;
+    }
+
+    public String getTransport() {
+        return transport;
+    }
+
+    /**
+     * Session id seen on the wire, or null before the session was created
+     */
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public int getClients() {
+        return clients;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Requests that failed with an I/O error or a 5xx response
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public double getMeanMillis() {
+        long count = getRequests();
+        return count == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public long getMaxMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("transport", transport);
+        map.put("clients", getClients());
+        map.put("requests", getRequests());
+        map.put("errors", getErrors());
+        map.put("meanMillis", Math.round(getMeanMillis() * 100) / 100.0);
+        map.put("maxMillis", getMaxMillis());
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s transport, clients=%d, requests=%d, errors=%d, mean=%.1f ms, max=%d ms",
+            transport, getClients(), getRequests(), getErrors(), getMeanMillis(), getMaxMillis());
+    }
+}
@@ -0,0 +1,235 @@
+package com.selenium.tests.fixtures;
+
+import com.selenium.tests.concurrent.ThreadingSupport;
+import com.selenium.tests.config.FrameworkConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded HTTP server that stands in for a live site
+ *
+ * Record mode proxies every GET to the origin and saves the response. References to the origin
+ * in HTML, CSS, JavaScript and JSON are rewritten to root-relative URLs so pages and same-origin
+ * assets load through the server. Replay mode serves the saved responses from disk and never
+ * touches the network. Requests other than GET/HEAD (e.g. form posts) are answered with 204 and
+ * never forwarded.
+ *
+ *   fixture.mode         off, record or replay (default off: tests use the live site)
+ *   fixture.origin       site to record (default: the site under test)
+ *   fixture.dir          fixture directory (default src/test/fixtures/prism)
+ *   fixture.port         local port (default 0: any free port)
+ *   fixture.spaFallback  serve the recorded "/" for unknown extension-less paths (default true)
+ *
+ * Third-party (cross-origin) assets are not recorded; block them with -Dnetwork.policy=block
+ * for fully offline runs.
+ */
+public class FixtureServer {
+    private static final Logger logger = LogManager.getLogger(FixtureServer.class);
+
+    public enum Mode {
+        OFF,
+        RECORD,
+        REPLAY
+    }
+
+    private final Mode mode;
+    private final String origin;
+    private final FixtureStore store;
+    private final int port;
+    private final boolean spaFallback;
+    private final Pattern originReference;
+    private final LongAdder served = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private HttpClient client;
+
+    public FixtureServer(Mode mode, String origin, Path directory, int port, boolean spaFallback) {
+        this.mode = mode;
+        this.origin = origin.endsWith("/") ? origin.substring(0, origin.length() - 1) : origin;
+        this.store = new FixtureStore(directory);
+        this.port = port;
+        this.spaFallback = spaFallback;
+        String host = URI.create(this.origin).getHost().replaceFirst("^www\\.", "");
+        // https://host, //host, https:\/\/host (JSON), with an optional trailing slash
+        this.originReference = Pattern.compile("(?:https?:)?(?:\\\\?/){2}(?:www\\.)?" + Pattern.quote(host) + "(?![\\w.-])(\\\\?/)?");
+    }
+
+    public static FixtureServer fromConfig(String defaultOrigin) {
+        return new FixtureServer(
+            Mode.valueOf(FrameworkConfig.getString("fixture.mode", "off").toUpperCase(Locale.ROOT)),
+            FrameworkConfig.getString("fixture.origin", defaultOrigin),
+            Paths.get(FrameworkConfig.getString("fixture.dir", "src/test/fixtures/prism")),
+            FrameworkConfig.getInt("fixture.port", 0),
+            FrameworkConfig.getBoolean("fixture.spaFallback", true));
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Starts the server and returns its base URL, e.g. http://127.0.0.1:53211
+     */
+    public synchronized String start() {
+        if (mode == Mode.OFF) {
+            throw new IllegalStateException("Fixture server is off (set -Dfixture.mode=record or replay)");
+        }
+        if (server == null) {
+            if (mode == Mode.REPLAY && store.size() == 0) {
+                throw new IllegalStateException("No fixtures recorded in " + store.getDirectory()
+                    + ". Run once with -Dfixture.mode=record.");
+            }
+            try {
+                server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start fixture server on port " + port, e);
+            }
+            if (mode == Mode.RECORD) {
+                client = HttpClient.newBuilder()
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            }
+            executor = ThreadingSupport.newCachedExecutor("fixture-server");
+            server.setExecutor(executor);
+            server.createContext("/", this::handle);
+            server.start();
+            logger.info("Fixture server ({}) serving {} at {}", mode, origin, getBaseUrl());
+        }
+        return getBaseUrl();
+    }
+
+    public synchronized String getBaseUrl() {
+        if (server == null) {
+            throw new IllegalStateException("Fixture server is not running");
+        }
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            logger.info("Fixture server stopped: {} responses served, {} not found, {} fixtures in {}",
+                served.sum(), misses.sum(), store.size(), store.getDirectory());
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+            URI uri = exchange.getRequestURI();
+            String key = uri.getRawPath() + (uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery());
+            Optional<FixtureStore.Fixture> fixture = mode == Mode.RECORD ? Optional.of(record(key, exchange)) : store.find(key);
+            if (fixture.isEmpty() && spaFallback && !uri.getRawPath().substring(uri.getRawPath().lastIndexOf('/')).contains(".")) {
+                fixture = store.find("/");
+            }
+            if (fixture.isEmpty()) {
+                misses.increment();
+                logger.debug("No fixture for {}", key);
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            send(exchange, fixture.get(), "HEAD".equals(method));
+        } catch (RuntimeException e) {
+            logger.warn("Fixture server failed on {}: {}", exchange.getRequestURI(), e.getMessage());
+            if (exchange.getResponseCode() == -1) {
+                exchange.sendResponseHeaders(502, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private FixtureStore.Fixture record(String key, HttpExchange exchange) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(origin + key))
+            .timeout(Duration.ofSeconds(30))
+            .GET();
+        for (String header : new String[] {"User-Agent", "Accept", "Accept-Language"}) {
+            String value = exchange.getRequestHeaders().getFirst(header);
+            if (value != null) {
+                request.header(header, value);
+            }
+        }
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not fetch " + origin + key, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching " + origin + key, e);
+        }
+        String contentType = response.headers().firstValue("Content-Type").orElse("application/octet-stream");
+        String cacheControl = response.headers().firstValue("Cache-Control").orElse("");
+        byte[] body = isText(contentType) ? rewrite(response.body()) : response.body();
+        FixtureStore.Fixture fixture = new FixtureStore.Fixture(response.statusCode(), contentType, cacheControl, body);
+        store.save(key, fixture);
+        logger.debug("Recorded {} ({} bytes, {})", key, body.length, response.statusCode());
+        return fixture;
+    }
+
+    /**
+     * Turns absolute references to the origin into root-relative ones
+     */
+    byte[] rewrite(byte[] body) {
+        Matcher matcher = originReference.matcher(new String(body, StandardCharsets.UTF_8));
+        StringBuilder rewritten = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(rewritten, Matcher.quoteReplacement(matcher.group(1) == null ? "/" : matcher.group(1)));
+        }
+        matcher.appendTail(rewritten);
+        return rewritten.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isText(String contentType) {
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith("text/") || type.contains("javascript") || type.contains("json")
+            || type.contains("xml") || type.contains("svg");
+    }
+
+    private void send(HttpExchange exchange, FixtureStore.Fixture fixture, boolean headOnly) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", fixture.getContentType());
+        if (!fixture.getCacheControl().isEmpty()) {
+            exchange.getResponseHeaders().set("Cache-Control", fixture.getCacheControl());
+        }
+        int status = fixture.getStatus();
+        boolean noBody = headOnly || status == 204 || status == 304 || fixture.getBody().length == 0;
+        exchange.sendResponseHeaders(status, noBody ? -1 : fixture.getBody().length);
+        if (!noBody) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(fixture.getBody());
+            }
+        }
+        served.increment();
+    }
+}
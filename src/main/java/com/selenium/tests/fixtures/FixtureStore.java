@@ -0,0 +1,111 @@
+package com.selenium.tests.fixtures;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Recorded responses on disk: one body file per request path plus manifest.properties
+ * mapping "path?query" to "status|content type|cache control|body file".
+ */
+class FixtureStore {
+    private static final String MANIFEST = "manifest.properties";
+
+    private final Path directory;
+    private final Properties manifest = new Properties();
+
+    FixtureStore(Path directory) {
+        this.directory = directory;
+        Path file = directory.resolve(MANIFEST);
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                manifest.load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read fixture manifest " + file, e);
+            }
+        }
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    synchronized int size() {
+        return manifest.size();
+    }
+
+    synchronized Optional<Fixture> find(String key) {
+        String entry = manifest.getProperty(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        String[] parts = entry.split("\\|", 4);
+        try {
+            byte[] body = Files.readAllBytes(directory.resolve(parts[3]));
+            return Optional.of(new Fixture(Integer.parseInt(parts[0]), parts[1], parts[2], body));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read fixture body for " + key, e);
+        }
+    }
+
+    synchronized void save(String key, Fixture fixture) {
+        String fileName = fileNameOf(key);
+        try {
+            Files.createDirectories(directory);
+            Files.write(directory.resolve(fileName), fixture.getBody());
+            manifest.setProperty(key, fixture.getStatus() + "|" + fixture.getContentType() + "|"
+                + fixture.getCacheControl() + "|" + fileName);
+            try (OutputStream out = Files.newOutputStream(directory.resolve(MANIFEST))) {
+                manifest.store(out, "Recorded fixtures: path?query=status|content type|cache control|body file");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not save fixture for " + key, e);
+        }
+    }
+
+    private static String fileNameOf(String key) {
+        String name = key.replaceAll("[^A-Za-z0-9._-]", "_");
+        if (name.length() > 80) {
+            name = name.substring(name.length() - 80);
+        }
+        return name + "-" + Integer.toHexString(key.hashCode()) + ".body";
+    }
+
+    /**
+     * A recorded response
+     */
+    static final class Fixture {
+        private final int status;
+        private final String contentType;
+        private final String cacheControl;
+        private final byte[] body;
+
+        Fixture(int status, String contentType, String cacheControl, byte[] body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.cacheControl = cacheControl;
+            this.body = body;
+        }
+
+        int getStatus() {
+            return status;
+        }
+
+        String getContentType() {
+            return contentType;
+        }
+
+        String getCacheControl() {
+            return cacheControl;
+        }
+
+        byte[] getBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.selenium.tests.listeners;
+
+import com.selenium.tests.sharding.DurationHistory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * Feeds test durations into {@link DurationHistory} and saves the history when the suite finishes
+ */
+public class DurationRecorder implements ITestListener, ISuiteListener {
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        DurationHistory.getInstance().save();
+    }
+
+    private static void record(ITestResult result) {
+        DurationHistory.getInstance().record(result.getTestClass().getRealClass().getName(),
+            result.getMethod().getMethodName(), result.getEndMillis() - result.getStartMillis());
+    }
+}
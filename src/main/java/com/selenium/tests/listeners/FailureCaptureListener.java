@@ -0,0 +1,91 @@
+package com.selenium.tests.listeners;
+
+import com.selenium.tests.artifacts.ArtifactWriter;
+import com.selenium.tests.artifacts.FailureArtifacts;
+import com.selenium.tests.config.FrameworkConfig;
+import com.selenium.tests.driver.DriverManager;
+import com.selenium.tests.retry.FailureClassifier;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Captures a screenshot, the page source and the browser console log when a test fails
+ * TestNG calls onTestFailure before the test's @AfterMethod, so the failing browser is still leased.
+ * Capturing happens on the test thread; compression and writing are handed to {@link ArtifactWriter}.
+ * The artifact directory is attached to the TestNG result as the "failureArtifacts" attribute.
+ *
+ *   artifacts.capture       capture artifacts of failed tests (default true)
+ *   artifacts.drainTimeout  seconds to wait for queued artifacts at the end of the suite (default 30)
+ *
+ * Infrastructure failures are not captured, since the browser is usually gone.
+ */
+public class FailureCaptureListener implements ITestListener, ISuiteListener {
+    private static final Logger logger = LogManager.getLogger(FailureCaptureListener.class);
+
+    private final boolean enabled = FrameworkConfig.getBoolean("artifacts.capture", true);
+    private final AtomicInteger sequence = new AtomicInteger();
+    private volatile ArtifactWriter writer;
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        if (!enabled || !DriverManager.hasDriver() || FailureClassifier.isInfrastructure(result.getThrowable())) {
+            return;
+        }
+        String name = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName()
+            + "-" + sequence.incrementAndGet();
+        FailureArtifacts artifacts = capture(DriverManager.getDriver(), name);
+        if (artifacts.isEmpty()) {
+            return;
+        }
+        writer = ArtifactWriter.getInstance();
+        if (writer.submit(artifacts)) {
+            result.setAttribute("failureArtifacts", writer.directoryOf(artifacts).toString());
+            logger.info("Failure artifacts queued for {}", writer.directoryOf(artifacts));
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (writer != null) {
+            writer.close(FrameworkConfig.getSeconds("artifacts.drainTimeout", 30));
+        }
+    }
+
+    private static FailureArtifacts capture(WebDriver driver, String name) {
+        FailureArtifacts artifacts = new FailureArtifacts(name);
+        if (driver instanceof TakesScreenshot) {
+            try {
+                artifacts.add("screenshot.png", ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+            } catch (WebDriverException e) {
+                logger.debug("Could not take screenshot: {}", e.getMessage());
+            }
+        }
+        try {
+            artifacts.add("page-source.html", driver.getPageSource());
+        } catch (WebDriverException e) {
+            logger.debug("Could not read page source: {}", e.getMessage());
+        }
+        try {
+            StringBuilder log = new StringBuilder();
+            for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+                log.append(entry).append(System.lineSeparator());
+            }
+            artifacts.add("console.log", log.toString());
+        } catch (WebDriverException e) {
+            logger.debug("Could not read browser console log: {}", e.getMessage());
+        }
+        return artifacts;
+    }
+}
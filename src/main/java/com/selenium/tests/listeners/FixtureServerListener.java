@@ -0,0 +1,47 @@
+package com.selenium.tests.listeners;
+
+import com.selenium.tests.fixtures.FixtureServer;
+import com.selenium.tests.pages.prism.PrismSite;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Starts the embedded {@link FixtureServer} before the suite when -Dfixture.mode=record|replay
+ * and points the page objects at it through prism.baseUrl
+ *
+ * Example: mvn test -Dfixture.mode=replay
+ */
+public class FixtureServerListener implements ISuiteListener {
+    private static final Logger logger = LogManager.getLogger(FixtureServerListener.class);
+
+    private static FixtureServer server;
+
+    @Override
+    public void onStart(ISuite suite) {
+        synchronized (FixtureServerListener.class) {
+            if (server != null) {
+                return;
+            }
+            FixtureServer candidate = FixtureServer.fromConfig(PrismSite.LIVE_URL);
+            if (candidate.getMode() == FixtureServer.Mode.OFF) {
+                return;
+            }
+            String baseUrl = candidate.start();
+            server = candidate;
+            System.setProperty("prism.baseUrl", baseUrl);
+            logger.info("Suite '{}' runs against fixtures at {}", suite.getName(), baseUrl);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        synchronized (FixtureServerListener.class) {
+            if (server != null) {
+                server.stop();
+                server = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.selenium.tests.listeners;
+
+import com.selenium.tests.retry.InfraRetryAnalyzer;
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Attaches {@link InfraRetryAnalyzer} to every @Test method that does not declare a retry analyzer of its own
+ */
+public class InfraRetryTransformer implements IAnnotationTransformer {
+
+    @Override
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        Class<?> retryAnalyzer = annotation.getRetryAnalyzerClass();
+        if (retryAnalyzer == null || retryAnalyzer == DisabledRetryAnalyzer.class) {
+            annotation.setRetryAnalyzer(InfraRetryAnalyzer.class);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.selenium.tests.listeners;
+
+import com.selenium.tests.config.FrameworkConfig;
+import com.selenium.tests.driver.DriverManager;
+import com.selenium.tests.network.NetworkMonitor;
+import org.openqa.selenium.json.Json;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams test results to a JSON Lines file as tests finish, so tools can follow a run while it is going
+ * Each line is one JSON object with an "event" field: suiteStarted, test or suiteFinished.
+ * Test lines carry name, status, duration, thread, driver id, failure and the test's metrics
+ * (result attributes such as navigationTimings, plus the network counters of its browser).
+ * Lines are flushed one by one; a reader can tail the file and ignore an incomplete last line.
+ *
+ *   report.jsonl       write the file (default true)
+ *   report.jsonl.file  output file (default target/test-results.jsonl), truncated at the start of the run
+ */
+public class JsonlResultReporter implements ITestListener, ISuiteListener {
+    private static final Logger logger = LogManager.getLogger(JsonlResultReporter.class);
+
+    private final boolean enabled = FrameworkConfig.getBoolean("report.jsonl", true);
+    private final Path file = Paths.get(FrameworkConfig.getString("report.jsonl.file", "target/test-results.jsonl"));
+    private final Json json = new Json();
+    private final LongAdder passed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private BufferedWriter writer;
+    private boolean truncated;
+    private long suiteStartMillis;
+
+    @Override
+    public synchronized void onStart(ISuite suite) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            writer = Files.newBufferedWriter(file, StandardOpenOption.CREATE,
+                truncated ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+            truncated = true;
+        } catch (IOException e) {
+            logger.warn("Could not open result stream {}: {}", file, e.getMessage());
+            return;
+        }
+        suiteStartMillis = System.currentTimeMillis();
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("event", "suiteStarted");
+        line.put("suite", suite.getName());
+        line.put("timestamp", suiteStartMillis);
+        append(line);
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        passed.increment();
+        append(toLine(result, "PASS"));
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        failed.increment();
+        append(toLine(result, "FAIL"));
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        skipped.increment();
+        append(toLine(result, "SKIP"));
+    }
+
+    @Override
+    public synchronized void onFinish(ISuite suite) {
+        if (writer == null) {
+            return;
+        }
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("event", "suiteFinished");
+        line.put("suite", suite.getName());
+        line.put("timestamp", System.currentTimeMillis());
+        line.put("durationMs", System.currentTimeMillis() - suiteStartMillis);
+        line.put("passed", passed.sum());
+        line.put("failed", failed.sum());
+        line.put("skipped", skipped.sum());
+        append(line);
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.warn("Could not close result stream {}: {}", file, e.getMessage());
+        }
+        writer = null;
+    }
+
+    /**
+     * Called on the test thread before @AfterMethod, so the test's browser is still bound
+     */
+    private static Map<String, Object> toLine(ITestResult result, String status) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("event", "test");
+        line.put("name", result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName());
+        line.put("class", result.getTestClass().getRealClass().getName());
+        line.put("method", result.getMethod().getMethodName());
+        line.put("status", status);
+        line.put("retried", result.wasRetried());
+        line.put("startMillis", result.getStartMillis());
+        line.put("durationMs", result.getEndMillis() - result.getStartMillis());
+        line.put("thread", Thread.currentThread().getName());
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        if (DriverManager.hasDriver()) {
+            line.put("driver", DriverManager.getPooledDriver().getId());
+            NetworkMonitor.of(DriverManager.getDriver()).ifPresent(monitor -> metrics.put("network", monitor.toMap()));
+        }
+        for (String name : result.getAttributeNames()) {
+            metrics.put(name, result.getAttribute(name));
+        }
+        line.put("metrics", metrics);
+        Throwable throwable = result.getThrowable();
+        if (throwable != null) {
+            line.put("failure", throwable.getClass().getName() + ": " + throwable.getMessage());
+        }
+        return line;
+    }
+
+    private synchronized void append(Map<String, Object> line) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            StringBuilder text = new StringBuilder();
+            json.newOutput(text).setPrettyPrint(false).write(line);
+            writer.write(text.toString());
+            writer.newLine();
+            writer.flush();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not write result of {}: {}", line.get("name"), e.getMessage());
+        }
+    }
+}
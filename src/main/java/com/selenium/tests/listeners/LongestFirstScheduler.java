@@ -0,0 +1,175 @@
+package com.selenium.tests.listeners;
+
+import com.selenium.tests.base.BaseTest;
+import com.selenium.tests.base.SharedPage;
+import com.selenium.tests.config.FrameworkConfig;
+import com.selenium.tests.metrics.MetricsOutput;
+import com.selenium.tests.sharding.DurationHistory;
+import com.selenium.tests.sharding.ShardPlanner;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Orders test methods longest first so that no thread starts a long test while the others run out of work
+ * Durations come from {@link DurationHistory}; tests without history are estimated from the median.
+ * With parallel="classes" whole classes are ordered by their total duration and keep their methods together.
+ * Tests of a class that read the same {@link SharedPage} run back to back so they can share one page load.
+ * Methods with dependencies keep TestNG's order.
+ *
+ * When the suite finishes, target/metrics/schedule.txt compares the predicted makespan of the declared and
+ * the longest-first order with the actual wall time and thread utilisation.
+ *
+ *   schedule.longestFirst  reorder test methods (default true)
+ */
+public class LongestFirstScheduler implements IMethodInterceptor, ITestListener, ISuiteListener {
+    private static final Logger logger = LogManager.getLogger(LongestFirstScheduler.class);
+    private static final long DEFAULT_TEST_MILLIS = 10_000;
+
+    private final Map<String, String> predictions = new ConcurrentHashMap<>();
+    private final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong lastEnd = new AtomicLong();
+    private final LongAdder busyMillis = new LongAdder();
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        DurationHistory history = DurationHistory.getInstance();
+        long unknownMillis = history.getMedianMillis(DEFAULT_TEST_MILLIS);
+        Map<IMethodInstance, Long> estimates = new LinkedHashMap<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            estimates.put(instance, history.getMillis(method.getRealClass().getName(), method.getMethodName()).orElse(unknownMillis));
+        }
+
+        XmlSuite.ParallelMode parallel = context.getSuite().getXmlSuite().getParallel();
+        boolean byClass = parallel == XmlSuite.ParallelMode.CLASSES;
+        int workers = parallel == null || parallel == XmlSuite.ParallelMode.NONE ? 1 : context.getSuite().getXmlSuite().getThreadCount();
+        boolean reorder = FrameworkConfig.getBoolean("schedule.longestFirst", true)
+            && methods.stream().noneMatch(m -> m.getMethod().getMethodsDependedUpon().length > 0);
+
+        List<IMethodInstance> ordered = reorder ? groupSharedPages(longestFirst(methods, estimates, byClass)) : methods;
+        long declared = ShardPlanner.makespan(units(methods, estimates, byClass), workers);
+        long planned = ShardPlanner.makespan(units(ordered, estimates, byClass), workers);
+        long total = estimates.values().stream().mapToLong(Long::longValue).sum();
+        String prediction = String.format("%s: %d tests on %d thread(s), %s order%n"
+                + "  predicted makespan  declared order %d s, longest first %d s%n"
+                + "  predicted efficiency %.0f%% (total test time %d s)%n",
+            context.getName(), methods.size(), workers, reorder ? "longest-first" : "declared",
+            declared / 1000, planned / 1000, efficiency(total, workers, reorder ? planned : declared), total / 1000);
+        predictions.put(context.getName(), prediction);
+        logger.info("Schedule for {}: predicted makespan {} s (declared order {} s)", context.getName(),
+            (reorder ? planned : declared) / 1000, declared / 1000);
+        return ordered;
+    }
+
+    private static List<IMethodInstance> longestFirst(List<IMethodInstance> methods, Map<IMethodInstance, Long> estimates, boolean byClass) {
+        Comparator<IMethodInstance> byDuration = Comparator.comparing(estimates::get, Comparator.reverseOrder());
+        if (!byClass) {
+            List<IMethodInstance> ordered = new ArrayList<>(methods);
+            ordered.sort(byDuration);
+            return ordered;
+        }
+        Map<Class<?>, List<IMethodInstance>> classes = methods.stream()
+            .collect(Collectors.groupingBy(m -> m.getMethod().getRealClass(), LinkedHashMap::new, Collectors.toList()));
+        Map<Class<?>, Long> classTotals = new LinkedHashMap<>();
+        classes.forEach((type, members) -> classTotals.put(type, members.stream().mapToLong(estimates::get).sum()));
+        List<IMethodInstance> ordered = new ArrayList<>();
+        classes.keySet().stream()
+            .sorted(Comparator.comparing(classTotals::get, Comparator.reverseOrder()))
+            .forEach(type -> {
+                List<IMethodInstance> members = new ArrayList<>(classes.get(type));
+                members.sort(byDuration);
+                ordered.addAll(members);
+            });
+        return ordered;
+    }
+
+    /**
+     * Moves tests of the same class and shared page next to the first (longest) of them
+     */
+    private static List<IMethodInstance> groupSharedPages(List<IMethodInstance> methods) {
+        Map<Object, List<IMethodInstance>> groups = new LinkedHashMap<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            String sharedPage = BaseTest.sharedPageOf(method.getConstructorOrMethod().getMethod());
+            Object key = sharedPage == null ? instance : method.getRealClass().getName() + "#" + sharedPage;
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(instance);
+        }
+        List<IMethodInstance> grouped = new ArrayList<>();
+        groups.values().forEach(grouped::addAll);
+        return grouped;
+    }
+
+    /**
+     * Scheduling units in execution order: single methods, or whole classes in parallel="classes" mode
+     */
+    private static List<Long> units(List<IMethodInstance> methods, Map<IMethodInstance, Long> estimates, boolean byClass) {
+        if (!byClass) {
+            return methods.stream().map(estimates::get).collect(Collectors.toList());
+        }
+        Map<Class<?>, Long> classTotals = new LinkedHashMap<>();
+        for (IMethodInstance method : methods) {
+            classTotals.merge(method.getMethod().getRealClass(), estimates.get(method), Long::sum);
+        }
+        return new ArrayList<>(classTotals.values());
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        recordActual(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        recordActual(result);
+    }
+
+    private void recordActual(ITestResult result) {
+        firstStart.accumulateAndGet(result.getStartMillis(), Math::min);
+        lastEnd.accumulateAndGet(result.getEndMillis(), Math::max);
+        busyMillis.add(result.getEndMillis() - result.getStartMillis());
+        threads.add(Thread.currentThread().getName());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (predictions.isEmpty() || threads.isEmpty()) {
+            return;
+        }
+        int workers = suite.getXmlSuite().getParallel() == null || suite.getXmlSuite().getParallel() == XmlSuite.ParallelMode.NONE
+            ? 1 : suite.getXmlSuite().getThreadCount();
+        long wall = lastEnd.get() - firstStart.get();
+        StringBuilder report = new StringBuilder();
+        predictions.values().forEach(report::append);
+        report.append(String.format("actual: makespan %d s, busy %d s on %d thread(s) used of %d%n"
+                + "  actual efficiency %.0f%% (test methods only; setup, teardown and driver leasing count as idle)%n",
+            wall / 1000, busyMillis.sum() / 1000, threads.size(), workers, efficiency(busyMillis.sum(), workers, wall)));
+        Path file = MetricsOutput.write("schedule.txt", report.toString());
+        logger.info("Schedule report written to {}", file);
+    }
+
+    private static double efficiency(long busyMillis, int workers, long makespanMillis) {
+        return makespanMillis <= 0 ? 100 : 100.0 * busyMillis / ((long) workers * makespanMillis);
+    }
+}
@@ -0,0 +1,52 @@
+package com.selenium.tests.listeners;
+
+import com.selenium.tests.driver.HttpTransport;
+import com.selenium.tests.metrics.CommandLatencyStatistics;
+import com.selenium.tests.metrics.ElementCacheStatistics;
+import com.selenium.tests.metrics.MetricsOutput;
+import com.selenium.tests.metrics.NavigationTimingRecorder;
+import com.selenium.tests.metrics.WaitStatistics;
+import com.selenium.tests.network.HarSummary;
+import com.selenium.tests.network.ResourceSizeLedger;
+import com.selenium.tests.pages.NavigationShortCircuit;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Path;
+
+/**
+ * Writes the framework's performance reports to the metrics directory when a suite finishes
+ */
+public class MetricsReportListener implements ISuiteListener {
+    private static final Logger logger = LogManager.getLogger(MetricsReportListener.class);
+
+    @Override
+    public void onFinish(ISuite suite) {
+        WaitStatistics waits = WaitStatistics.getInstance();
+        if (!waits.isEmpty()) {
+            Path file = MetricsOutput.write("wait-timings.txt", waits.getSummary());
+            logger.info("Wait timings written to {}", file);
+        }
+        CommandLatencyStatistics commands = CommandLatencyStatistics.getInstance();
+        if (!commands.isEmpty()) {
+            Path file = MetricsOutput.write("command-latency.txt", commands.getSummary());
+            logger.info("WebDriver command latency written to {}", file);
+        }
+        HarSummary har = HarSummary.getInstance();
+        if (!har.isEmpty()) {
+            Path file = MetricsOutput.write("har-summary.txt", har.getSummary());
+            logger.info("Slowest and heaviest requests written to {}", file);
+        }
+        HttpTransport.active().filter(transport -> !transport.isEmpty()).ifPresent(transport -> {
+            Path file = MetricsOutput.write("http-transport.txt", transport.getSummary());
+            logger.info("WebDriver HTTP transport per session written to {}", file);
+        });
+        logger.info("Navigations: {} performed, {} skipped (page already loaded)",
+            NavigationShortCircuit.getPerformedNavigations(), NavigationShortCircuit.getSkippedNavigations());
+        logger.info("Element cache: {}", ElementCacheStatistics.getInstance());
+        ResourceSizeLedger.getInstance().save();
+        NavigationTimingRecorder.getInstance().close();
+    }
+}
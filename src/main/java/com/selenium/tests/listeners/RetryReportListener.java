@@ -0,0 +1,74 @@
+package com.selenium.tests.listeners;
+
+import com.selenium.tests.metrics.MetricsOutput;
+import com.selenium.tests.retry.InfraRetryAnalyzer;
+import org.testng.IRetryAnalyzer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Reports tests that passed or failed only after infrastructure retries
+ * Retried-but-passed tests are flagged on their TestNG result (attribute "infraRetries") and listed in
+ * target/metrics/retries.txt, so flaky infrastructure stays visible although the build is green.
+ */
+public class RetryReportListener implements ITestListener, ISuiteListener {
+    private static final Logger logger = LogManager.getLogger(RetryReportListener.class);
+
+    private final Map<String, String> passedAfterRetry = new ConcurrentSkipListMap<>();
+    private final Map<String, String> failedAfterRetry = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        retries(result).ifPresent(failures -> {
+            result.setAttribute("infraRetries", failures);
+            passedAfterRetry.put(name(result), String.join(" | ", failures));
+        });
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        retries(result).ifPresent(failures -> {
+            result.setAttribute("infraRetries", failures);
+            failedAfterRetry.put(name(result), String.join(" | ", failures));
+        });
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (passedAfterRetry.isEmpty() && failedAfterRetry.isEmpty()) {
+            return;
+        }
+        StringBuilder report = new StringBuilder("Passed after infrastructure retry:").append(System.lineSeparator());
+        passedAfterRetry.forEach((test, failures) -> report.append("  ").append(test).append("  <- ").append(failures).append(System.lineSeparator()));
+        report.append("Failed despite infrastructure retry:").append(System.lineSeparator());
+        failedAfterRetry.forEach((test, failures) -> report.append("  ").append(test).append("  <- ").append(failures).append(System.lineSeparator()));
+        Path file = MetricsOutput.write("retries.txt", report.toString());
+        logger.warn("{} test(s) passed only after an infrastructure retry, {} failed despite retries; see {}",
+            passedAfterRetry.size(), failedAfterRetry.size(), file);
+    }
+
+    private static Optional<List<String>> retries(ITestResult result) {
+        IRetryAnalyzer analyzer = result.getMethod().getRetryAnalyzer(result);
+        if (analyzer instanceof InfraRetryAnalyzer) {
+            List<String> failures = ((InfraRetryAnalyzer) analyzer).getRetriedFailures();
+            if (!failures.isEmpty()) {
+                return Optional.of(failures);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String name(ITestResult result) {
+        return result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+    }
+}
@@ -0,0 +1,106 @@
+package com.selenium.tests.listeners;
+
+import com.selenium.tests.config.FrameworkConfig;
+import com.selenium.tests.sharding.DurationHistory;
+import com.selenium.tests.sharding.ShardPlanner;
+import org.testng.IAlterSuiteListener;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * Runs only this node's share of the test classes in testng.xml
+ * Classes are distributed over shard.count shards by their historical duration (see {@link DurationHistory});
+ * classes without history are estimated from the median test duration. Every node computes the same plan,
+ * so CI jobs only differ in shard.index.
+ *
+ *   shard.count  number of shards (default 1: no sharding)
+ *   shard.index  zero-based shard run by this JVM
+ *
+ * Example: mvn test -Dshard.count=4 -Dshard.index=2
+ */
+public class ShardSelector implements IAlterSuiteListener {
+    private static final Logger logger = LogManager.getLogger(ShardSelector.class);
+    private static final long DEFAULT_TEST_MILLIS = 10_000;
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int shardCount = FrameworkConfig.getInt("shard.count", 1);
+        if (shardCount <= 1) {
+            return;
+        }
+        int shardIndex = FrameworkConfig.getInt("shard.index", -1);
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("shard.index must be between 0 and " + (shardCount - 1) + " but was " + shardIndex);
+        }
+        DurationHistory history = DurationHistory.getInstance();
+        long unknownTestMillis = history.getMedianMillis(DEFAULT_TEST_MILLIS);
+
+        for (XmlSuite suite : suites) {
+            Map<String, Long> weights = new LinkedHashMap<>();
+            for (XmlTest test : suite.getTests()) {
+                for (XmlClass xmlClass : test.getXmlClasses()) {
+                    weights.merge(test.getName() + "/" + xmlClass.getName(),
+                        estimateMillis(history, xmlClass, unknownTestMillis), Long::sum);
+                }
+            }
+            ShardPlanner.Plan plan = ShardPlanner.plan(weights, shardCount);
+            for (int i = 0; i < shardCount; i++) {
+                logger.info("Shard {}/{}: {} classes, predicted {} s{}", i, shardCount, plan.getItems(i).size(),
+                    plan.getPredictedMillis(i) / 1000, i == shardIndex ? " (this node)" : "");
+            }
+            Set<String> selected = new HashSet<>(plan.getItems(shardIndex));
+            List<XmlTest> emptyTests = new ArrayList<>();
+            for (XmlTest test : suite.getTests()) {
+                List<XmlClass> kept = new ArrayList<>();
+                for (XmlClass xmlClass : test.getXmlClasses()) {
+                    if (selected.contains(test.getName() + "/" + xmlClass.getName())) {
+                        kept.add(xmlClass);
+                    }
+                }
+                test.setXmlClasses(kept);
+                if (kept.isEmpty()) {
+                    emptyTests.add(test);
+                }
+            }
+            suite.getTests().removeAll(emptyTests);
+            if (suite.getTests().isEmpty()) {
+                logger.warn("Shard {}/{} of suite '{}' has no test classes", shardIndex, shardCount, suite.getName());
+            }
+        }
+    }
+
+    /**
+     * Sums the history of each test method of the class, using the fallback for methods without history
+     */
+    private static long estimateMillis(DurationHistory history, XmlClass xmlClass, long unknownTestMillis) {
+        Class<?> testClass;
+        try {
+            testClass = Class.forName(xmlClass.getName(), false, Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException e) {
+            return unknownTestMillis;
+        }
+        boolean classLevelTest = testClass.isAnnotationPresent(Test.class);
+        long total = 0;
+        for (Method method : testClass.getMethods()) {
+            if (method.isAnnotationPresent(Test.class)
+                    || (classLevelTest && method.getDeclaringClass() == testClass && method.getReturnType() == void.class)) {
+                OptionalLong millis = history.getMillis(xmlClass.getName(), method.getName());
+                total += millis.orElse(unknownTestMillis);
+            }
+        }
+        return Math.max(total, 1);
+    }
+}
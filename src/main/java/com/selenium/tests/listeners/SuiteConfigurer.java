@@ -0,0 +1,49 @@
+package com.selenium.tests.listeners;
+
+import com.selenium.tests.config.FrameworkConfig;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+
+/**
+ * Applies parallel execution settings from system properties to the suites in testng.xml
+ *
+ *   suite.parallel     none, methods or classes (default: value from testng.xml)
+ *   suite.threadCount  number of TestNG worker threads (default: available processors)
+ *
+ * Unless driver.pool.size is given explicitly, the driver pool is sized to the thread count
+ * so every worker thread can hold a browser.
+ *
+ * Example: mvn test -Dsuite.parallel=methods -Dsuite.threadCount=8
+ */
+public class SuiteConfigurer implements IAlterSuiteListener {
+    private static final Logger logger = LogManager.getLogger(SuiteConfigurer.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String parallel = FrameworkConfig.getString("suite.parallel", null);
+        int threadCount = FrameworkConfig.getInt("suite.threadCount", Runtime.getRuntime().availableProcessors());
+        int maxThreads = 1;
+        for (XmlSuite suite : suites) {
+            if (parallel != null) {
+                XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(parallel);
+                if (mode != XmlSuite.ParallelMode.NONE && mode != XmlSuite.ParallelMode.METHODS
+                        && mode != XmlSuite.ParallelMode.CLASSES) {
+                    throw new IllegalArgumentException("Unsupported suite.parallel value: " + parallel
+                        + " (expected none, methods or classes)");
+                }
+                suite.setParallel(mode);
+                suite.setThreadCount(threadCount);
+            }
+            if (suite.getParallel() != XmlSuite.ParallelMode.NONE) {
+                maxThreads = Math.max(maxThreads, suite.getThreadCount());
+            }
+            logger.info("Suite '{}' runs with parallel={} and threadCount={}",
+                suite.getName(), suite.getParallel(), suite.getThreadCount());
+        }
+        FrameworkConfig.setDefault("driver.pool.size", String.valueOf(maxThreads));
+    }
+}
@@ -0,0 +1,330 @@
+package com.selenium.tests.load;
+
+import com.selenium.tests.concurrent.ThreadingSupport;
+import com.selenium.tests.config.FrameworkConfig;
+import com.selenium.tests.driver.DriverFactory;
+import com.selenium.tests.fixtures.FixtureServer;
+import com.selenium.tests.metrics.LatencyHistogram;
+import com.selenium.tests.metrics.MetricsOutput;
+import com.selenium.tests.metrics.NavigationTimingRecorder;
+import com.selenium.tests.pages.prism.PrismSite;
+import com.selenium.tests.retry.FailureClassifier;
+import org.openqa.selenium.WebDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs a {@link LoadScenario} with concurrent virtual users, each driving its own headless browser
+ * Reports throughput and latency percentiles per step to target/metrics/load-report.txt.
+ * Users run on virtual threads when threads.virtual is on (see {@link ThreadingSupport}).
+ *
+ *   load.scenario      scenario from {@link PrismScenarios} (default contact-journey)
+ *   load.users         concurrent virtual users (default 2)
+ *   load.rampUp        seconds over which the users are started (default 0)
+ *   load.duration      seconds each user keeps iterating (default 60)
+ *   load.iterations    iterations per user instead of a duration (default 0 = use load.duration)
+ *   load.thinkTime     milliseconds between steps, varied by +/-50% (default 1000)
+ *   load.maxErrorRate  fraction of failed iterations tolerated before the run exits with status 1 (default 0.01)
+ *   load.allowedHosts  comma-separated hosts besides localhost that may be loaded (default none)
+ *
+ * The runner never loads the live site. With -Dfixture.mode=replay it starts the embedded
+ * {@link FixtureServer}; otherwise prism.baseUrl must point at a local or explicitly allowed host.
+ *
+ * Usage: java -Dfixture.mode=replay -Dload.users=5 -cp ... com.selenium.tests.load.LoadRunner
+ */
+public final class LoadRunner {
+    private static final Logger logger = LogManager.getLogger(LoadRunner.class);
+
+    private final LoadScenario scenario;
+    private final int users;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final int iterations;
+    private final long thinkTimeMillis;
+    private final Supplier<WebDriver> driverSupplier;
+
+    private final List<UserStats> userStats = new ArrayList<>();
+
+    public LoadRunner(LoadScenario scenario, int users, Duration rampUp, Duration duration, int iterations,
+                      long thinkTimeMillis, Supplier<WebDriver> driverSupplier) {
+        if (users < 1) {
+            throw new IllegalArgumentException("load.users must be at least 1 but was " + users);
+        }
+        this.scenario = scenario;
+        this.users = users;
+        this.rampUp = rampUp;
+        this.duration = duration;
+        this.iterations = iterations;
+        this.thinkTimeMillis = thinkTimeMillis;
+        this.driverSupplier = driverSupplier;
+    }
+
+    public static void main(String[] args) throws Exception {
+        FrameworkConfig.setDefault("browser.profile", "fast");
+        // Every iteration must really load its pages
+        FrameworkConfig.setDefault("navigation.shortCircuit", "false");
+
+        FixtureServer fixtures = null;
+        FixtureServer candidate = FixtureServer.fromConfig(PrismSite.LIVE_URL);
+        if (candidate.getMode() == FixtureServer.Mode.RECORD) {
+            throw new IllegalStateException("fixture.mode=record would proxy the live site; record fixtures with the test suite first");
+        }
+        if (candidate.getMode() == FixtureServer.Mode.REPLAY) {
+            System.setProperty("prism.baseUrl", candidate.start());
+            fixtures = candidate;
+        }
+        try {
+            requireLocalTarget(PrismSite.baseUrl());
+            LoadRunner runner = new LoadRunner(
+                PrismScenarios.get(FrameworkConfig.getString("load.scenario", "contact-journey")),
+                FrameworkConfig.getInt("load.users", 2),
+                FrameworkConfig.getSeconds("load.rampUp", 0),
+                FrameworkConfig.getSeconds("load.duration", 60),
+                FrameworkConfig.getInt("load.iterations", 0),
+                FrameworkConfig.getInt("load.thinkTime", 1000),
+                new DriverFactory()::createDriver);
+            Report report = runner.run();
+            Path file = MetricsOutput.write("load-report.txt", report.toString());
+            System.out.print(report);
+            logger.info("Load report written to {}", file);
+            double maxErrorRate = Double.parseDouble(FrameworkConfig.getString("load.maxErrorRate", "0.01"));
+            if (report.getErrorRate() > maxErrorRate) {
+                logger.error("Error rate {} exceeds load.maxErrorRate {}", String.format("%.3f", report.getErrorRate()), maxErrorRate);
+                System.exit(1);
+            }
+        } finally {
+            if (fixtures != null) {
+                fixtures.stop();
+            }
+        }
+    }
+
+    /**
+     * Refuses to generate load against anything but a local copy of the site or an explicitly allowed host
+     */
+    static void requireLocalTarget(String baseUrl) {
+        String host = URI.create(baseUrl).getHost();
+        if (host == null) {
+            throw new IllegalStateException("Cannot determine the host of prism.baseUrl " + baseUrl);
+        }
+        String liveHost = URI.create(PrismSite.LIVE_URL).getHost();
+        if (host.equalsIgnoreCase(liveHost) || host.equalsIgnoreCase("www." + liveHost)) {
+            throw new IllegalStateException("Refusing to run load against the production site " + baseUrl
+                + "; use -Dfixture.mode=replay or a local copy");
+        }
+        List<String> allowed = Arrays.asList(FrameworkConfig.getString("load.allowedHosts", "").toLowerCase(Locale.ROOT).split("\\s*,\\s*"));
+        if (allowed.contains(host.toLowerCase(Locale.ROOT)) || host.equalsIgnoreCase("localhost")) {
+            return;
+        }
+        try {
+            if (InetAddress.getByName(host).isLoopbackAddress()) {
+                return;
+            }
+        } catch (UnknownHostException e) {
+            // fall through to the refusal below
+        }
+        throw new IllegalStateException("Refusing to run load against " + baseUrl
+            + ": not a local address (add the host to load.allowedHosts if it is a test environment)");
+    }
+
+    /**
+     * Starts the virtual users (spread over the ramp-up), waits for them to finish and merges their statistics
+     */
+    public Report run() throws InterruptedException {
+        logger.info("Starting {} virtual user(s) for '{}' (ramp-up {}, {})", users, scenario.getName(), rampUp,
+            iterations > 0 ? iterations + " iteration(s) each" : duration);
+        long start = System.nanoTime();
+        ExecutorService executor = ThreadingSupport.newExecutor("virtual-user", users);
+        long rampStepNanos = users > 1 ? rampUp.toNanos() / (users - 1) : 0;
+        for (int user = 0; user < users; user++) {
+            UserStats stats = new UserStats(scenario.getStepNames().size());
+            userStats.add(stats);
+            long startDelayNanos = rampStepNanos * user;
+            executor.execute(() -> runUser(stats, startDelayNanos));
+        }
+        executor.shutdown();
+        long timeoutNanos = rampUp.toNanos() + (iterations > 0 ? TimeUnit.HOURS.toNanos(1) : duration.toNanos() * 2 + TimeUnit.MINUTES.toNanos(5));
+        if (!executor.awaitTermination(timeoutNanos, TimeUnit.NANOSECONDS)) {
+            logger.warn("Virtual users did not finish in time; reporting the iterations completed so far");
+            executor.shutdownNow();
+        }
+        return new Report(scenario, users, Duration.ofNanos(System.nanoTime() - start), userStats);
+    }
+
+    private void runUser(UserStats stats, long startDelayNanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(startDelayNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long end = System.nanoTime() + duration.toNanos();
+        WebDriver driver = null;
+        try {
+            for (int iteration = 0; iterations > 0 ? iteration < iterations : System.nanoTime() < end; iteration++) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                if (driver == null) {
+                    driver = driverSupplier.get();
+                }
+                if (!runIteration(driver, stats)) {
+                    // The browser may be gone; start a fresh one for the next iteration
+                    quit(driver);
+                    driver = null;
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error("Virtual user stopped: {}", e.toString());
+            stats.userFailures++;
+        } finally {
+            quit(driver);
+        }
+    }
+
+    /**
+     * Runs all steps once; returns false when the browser has to be replaced
+     */
+    private boolean runIteration(WebDriver driver, UserStats stats) {
+        long iterationStart = System.nanoTime();
+        List<LoadScenario.Step> steps = scenario.getSteps();
+        for (int i = 0; i < steps.size(); i++) {
+            long stepStart = System.nanoTime();
+            try {
+                steps.get(i).run(driver);
+                stats.steps[i].record(System.nanoTime() - stepStart);
+            } catch (Exception e) {
+                stats.stepErrors[i]++;
+                stats.failedIterations++;
+                logger.warn("Step '{}' failed: {}", scenario.getStepNames().get(i), e.toString());
+                return !FailureClassifier.isInfrastructure(e);
+            }
+            if (i < steps.size() - 1 && !thinkTime()) {
+                return true;
+            }
+        }
+        stats.iterations.record(System.nanoTime() - iterationStart);
+        return thinkTime();
+    }
+
+    private boolean thinkTime() {
+        if (thinkTimeMillis <= 0) {
+            return true;
+        }
+        long pause = ThreadLocalRandom.current().nextLong(thinkTimeMillis / 2, thinkTimeMillis * 3 / 2 + 1);
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void quit(WebDriver driver) {
+        if (driver != null) {
+            NavigationTimingRecorder.getInstance().collect(driver);
+            try {
+                driver.quit();
+            } catch (RuntimeException e) {
+                logger.debug("Could not quit browser: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Statistics of one virtual user, written only by its own thread
+     */
+    private static final class UserStats {
+        private final LatencyHistogram[] steps;
+        private final long[] stepErrors;
+        private final LatencyHistogram iterations = new LatencyHistogram();
+        private long failedIterations;
+        private long userFailures;
+
+        UserStats(int stepCount) {
+            steps = new LatencyHistogram[stepCount];
+            for (int i = 0; i < stepCount; i++) {
+                steps[i] = new LatencyHistogram();
+            }
+            stepErrors = new long[stepCount];
+        }
+    }
+
+    /**
+     * Merged result of a load run
+     */
+    public static final class Report {
+        private final LoadScenario scenario;
+        private final int users;
+        private final Duration elapsed;
+        private final LatencyHistogram[] steps;
+        private final long[] stepErrors;
+        private final LatencyHistogram iterations = new LatencyHistogram();
+        private long failedIterations;
+
+        Report(LoadScenario scenario, int users, Duration elapsed, List<UserStats> userStats) {
+            this.scenario = scenario;
+            this.users = users;
+            this.elapsed = elapsed;
+            int stepCount = scenario.getSteps().size();
+            this.steps = new LatencyHistogram[stepCount];
+            this.stepErrors = new long[stepCount];
+            for (int i = 0; i < stepCount; i++) {
+                steps[i] = new LatencyHistogram();
+            }
+            for (UserStats stats : userStats) {
+                for (int i = 0; i < stepCount; i++) {
+                    steps[i].merge(stats.steps[i]);
+                    stepErrors[i] += stats.stepErrors[i];
+                }
+                iterations.merge(stats.iterations);
+                failedIterations += stats.failedIterations + stats.userFailures;
+            }
+        }
+
+        /**
+         * Failed iterations as a fraction of all iterations
+         */
+        public double getErrorRate() {
+            long total = iterations.getCount() + failedIterations;
+            return total == 0 ? 1.0 : (double) failedIterations / total;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("Load run '%s': %d user(s), %.1f s, %d iteration(s) completed, %d failed (error rate %.1f%%)%n%n",
+                scenario.getName(), users, seconds, iterations.getCount(), failedIterations, getErrorRate() * 100));
+            report.append(String.format("%-24s %8s %8s %10s %10s %10s %10s %10s%n",
+                "Step", "Count", "Errors", "Per sec", "p50 ms", "p95 ms", "p99 ms", "Max ms"));
+            for (int i = 0; i < steps.length; i++) {
+                appendRow(report, scenario.getStepNames().get(i), steps[i], stepErrors[i], seconds);
+            }
+            appendRow(report, "(iteration)", iterations, failedIterations, seconds);
+            return report.toString();
+        }
+
+        private static void appendRow(StringBuilder report, String name, LatencyHistogram histogram, long errors, double seconds) {
+            report.append(String.format("%-24s %8d %8d %10.2f %10.0f %10.0f %10.0f %10.0f%n",
+                name, histogram.getCount(), errors, histogram.getCount() / seconds,
+                histogram.getPercentileMillis(50), histogram.getPercentileMillis(95),
+                histogram.getPercentileMillis(99), histogram.getMaxMillis()));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.selenium.tests.load;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A user journey for {@link LoadRunner}: named steps that drive page objects on one browser
+ * Each step is timed separately; an iteration runs all steps in order on the same browser.
+ */
+public final class LoadScenario {
+
+    /**
+     * One timed step of a journey
+     */
+    @FunctionalInterface
+    public interface Step {
+        void run(WebDriver driver) throws Exception;
+    }
+
+    private final String name;
+    private final List<String> stepNames = new ArrayList<>();
+    private final List<Step> steps = new ArrayList<>();
+
+    private LoadScenario(String name) {
+        this.name = name;
+    }
+
+    public static LoadScenario named(String name) {
+        return new LoadScenario(name);
+    }
+
+    public LoadScenario step(String stepName, Step step) {
+        stepNames.add(stepName);
+        steps.add(step);
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getStepNames() {
+        return Collections.unmodifiableList(stepNames);
+    }
+
+    public List<Step> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+}
@@ -0,0 +1,74 @@
+package com.selenium.tests.load;
+
+import com.selenium.tests.pages.prism.AboutPage;
+import com.selenium.tests.pages.prism.ContactPage;
+import com.selenium.tests.pages.prism.HomePage;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Load scenarios built from the Prism page objects, selected with -Dload.scenario
+ */
+public final class PrismScenarios {
+
+    private static final Map<String, Supplier<LoadScenario>> SCENARIOS = Map.of(
+        "contact-journey", PrismScenarios::contactJourney,
+        "browse", PrismScenarios::browse);
+
+    private PrismScenarios() {
+    }
+
+    public static LoadScenario get(String name) {
+        Supplier<LoadScenario> scenario = SCENARIOS.get(name);
+        if (scenario == null) {
+            throw new IllegalArgumentException("Unknown load.scenario '" + name + "' (expected one of " + SCENARIOS.keySet() + ")");
+        }
+        return scenario.get();
+    }
+
+    /**
+     * Home, About, Contact and a contact form submission
+     */
+    public static LoadScenario contactJourney() {
+        return LoadScenario.named("contact-journey")
+            .step("home", driver -> {
+                HomePage home = new HomePage(driver);
+                home.navigateToHomePage();
+                home.waitUntilLoaded();
+            })
+            .step("about", driver -> {
+                new HomePage(driver).clickAboutLink();
+                new AboutPage(driver).waitUntilLoaded();
+            })
+            .step("contact", driver -> {
+                new AboutPage(driver).clickContactLink();
+                new ContactPage(driver).waitUntilLoaded();
+            })
+            .step("submitContactForm", driver -> {
+                ContactPage contact = new ContactPage(driver);
+                contact.submitContactForm("Load Test", "load-test@example.com", "Synthetic load test message");
+                contact.waitForSubmission();
+            });
+    }
+
+    /**
+     * Read-only browsing: Home, About and back Home
+     */
+    public static LoadScenario browse() {
+        return LoadScenario.named("browse")
+            .step("home", driver -> {
+                HomePage home = new HomePage(driver);
+                home.navigateToHomePage();
+                home.waitUntilLoaded();
+            })
+            .step("about", driver -> {
+                new HomePage(driver).clickAboutLink();
+                new AboutPage(driver).waitUntilLoaded();
+            })
+            .step("backHome", driver -> {
+                new AboutPage(driver).clickHomeLink();
+                new HomePage(driver).waitUntilLoaded();
+            });
+    }
+}
@@ -0,0 +1,48 @@
+package com.selenium.tests.locators;
+
+import com.selenium.tests.metrics.ElementCacheStatistics;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invocation handler behind page-object element proxies
+ * Calls go to the cached element; if it has gone stale the cache is invalidated and the call is
+ * retried once on a freshly resolved element. toString() describes the locator without a lookup.
+ */
+class CachingElementHandler implements InvocationHandler {
+    private final ElementLocator locator;
+
+    CachingElementHandler(ElementLocator locator) {
+        this.locator = locator;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if ("toString".equals(method.getName()) && method.getParameterCount() == 0) {
+            return "Proxy element for: " + locator;
+        }
+        WebElement element = locator.findElement();
+        if ("getWrappedElement".equals(method.getName())) {
+            return element;
+        }
+        try {
+            return method.invoke(element, args);
+        } catch (InvocationTargetException e) {
+            if (!(e.getCause() instanceof StaleElementReferenceException) || !(locator instanceof CachingElementLocator)) {
+                throw e.getCause();
+            }
+        }
+        ElementCacheStatistics.getInstance().staleRecovery();
+        ((CachingElementLocator) locator).invalidate();
+        try {
+            return method.invoke(locator.findElement(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
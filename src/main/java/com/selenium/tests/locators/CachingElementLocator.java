@@ -0,0 +1,61 @@
+package com.selenium.tests.locators;
+
+import com.selenium.tests.metrics.ElementCacheStatistics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.List;
+
+/**
+ * Element locator that caches the resolved element for the lifetime of its page instance
+ * The cache is dropped when the browser navigates (see {@link NavigationTracker}) or when the
+ * element turns out to be stale, in which case {@link CachingElementHandler} re-resolves it.
+ * Lists are always looked up fresh.
+ */
+public class CachingElementLocator implements ElementLocator {
+    private final SearchContext searchContext;
+    private final By by;
+    private final String name;
+
+    private WebElement cachedElement;
+    private long cachedEpoch;
+
+    public CachingElementLocator(SearchContext searchContext, By by, String name) {
+        this.searchContext = searchContext;
+        this.by = by;
+        this.name = name;
+    }
+
+    @Override
+    public WebElement findElement() {
+        long epoch = NavigationTracker.currentEpoch(searchContext);
+        if (cachedElement != null && cachedEpoch == epoch) {
+            ElementCacheStatistics.getInstance().hit();
+            return cachedElement;
+        }
+        ElementCacheStatistics.getInstance().miss();
+        WebElement element = searchContext.findElement(by);
+        cachedElement = element;
+        cachedEpoch = epoch;
+        return element;
+    }
+
+    @Override
+    public List<WebElement> findElements() {
+        return searchContext.findElements(by);
+    }
+
+    /**
+     * Drops the cached element so the next call resolves it again
+     */
+    public void invalidate() {
+        cachedElement = null;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + by;
+    }
+}
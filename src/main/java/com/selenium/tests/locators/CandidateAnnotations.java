@@ -0,0 +1,55 @@
+package com.selenium.tests.locators;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.Annotations;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PageFactory annotation reader that understands {@link PreferredLocators} in addition to
+ * the standard FindBy/FindBys/FindAll annotations
+ */
+public class CandidateAnnotations extends Annotations {
+
+    public CandidateAnnotations(Field field) {
+        super(field);
+    }
+
+    @Override
+    public By buildBy() {
+        PreferredLocators preferred = getField().getAnnotation(PreferredLocators.class);
+        if (preferred == null) {
+            return super.buildBy();
+        }
+        assertValidAnnotations();
+        return new CandidateBy(getField().getDeclaringClass().getSimpleName() + "." + getField().getName(),
+            buildCandidates(getField(), preferred));
+    }
+
+    static List<By> buildCandidates(Field field, PreferredLocators preferred) {
+        List<By> candidates = new ArrayList<>();
+        FindBy.FindByBuilder builder = new FindBy.FindByBuilder();
+        for (FindBy findBy : preferred.value()) {
+            candidates.add(builder.buildIt(findBy, field));
+        }
+        return candidates;
+    }
+
+    @Override
+    protected void assertValidAnnotations() {
+        Field field = getField();
+        if (field.getAnnotation(PreferredLocators.class) != null
+                && (field.getAnnotation(FindBy.class) != null
+                    || field.getAnnotation(FindBys.class) != null
+                    || field.getAnnotation(FindAll.class) != null)) {
+            throw new IllegalArgumentException("'@PreferredLocators' cannot be combined with '@FindBy', '@FindBys' or '@FindAll' on "
+                + field.getDeclaringClass().getSimpleName() + "." + field.getName());
+        }
+        super.assertValidAnnotations();
+    }
+}
@@ -0,0 +1,168 @@
+package com.selenium.tests.locators;
+
+import com.selenium.tests.config.FrameworkConfig;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Locator that picks the fastest unique match out of several candidates
+ * On first use every candidate that matches exactly one element is looked up locators.candidateSamples times
+ * (default 5) and the one with the lowest median lookup time is pinned; a single lookup is dominated by wire
+ * jitter. The choice is shared by all page instances (and threads) with the same key.
+ */
+public class CandidateBy extends By {
+    private static final Logger logger = LogManager.getLogger(CandidateBy.class);
+    private static final Map<String, By> CHOSEN = new ConcurrentHashMap<>();
+    private static final int SAMPLES = Math.max(1, FrameworkConfig.getInt("locators.candidateSamples", 5));
+
+    private final String key;
+    private final List<By> candidates;
+
+    /**
+     * @param key        identifies the page-object field, e.g. "ContactPage.homeLink"
+     * @param candidates locators in order of preference
+     */
+    public CandidateBy(String key, List<By> candidates) {
+        if (candidates.isEmpty()) {
+            throw new IllegalArgumentException("At least one candidate locator is required for " + key);
+        }
+        this.key = key;
+        this.candidates = List.copyOf(candidates);
+    }
+
+    public List<By> getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * Returns the candidate chosen for this field, or null if no lookup has happened yet
+     */
+    public By getChosen() {
+        return CHOSEN.get(key);
+    }
+
+    /**
+     * Returns the candidates in the order a lookup tries them: the chosen candidate first, once there is one
+     */
+    public List<By> getLookupOrder() {
+        By chosen = CHOSEN.get(key);
+        if (chosen == null) {
+            return candidates;
+        }
+        List<By> ordered = new ArrayList<>(candidates.size());
+        ordered.add(chosen);
+        for (By candidate : candidates) {
+            if (candidate != chosen) {
+                ordered.add(candidate);
+            }
+        }
+        return ordered;
+    }
+
+    @Override
+    public List<WebElement> findElements(SearchContext context) {
+        By chosen = CHOSEN.get(key);
+        if (chosen != null) {
+            List<WebElement> elements = context.findElements(chosen);
+            if (!elements.isEmpty()) {
+                return elements;
+            }
+            // The chosen locator no longer matches (different page state); try the others in order
+            for (By candidate : candidates) {
+                if (candidate != chosen) {
+                    elements = context.findElements(candidate);
+                    if (!elements.isEmpty()) {
+                        return elements;
+                    }
+                }
+            }
+            return Collections.emptyList();
+        }
+        return choose(context);
+    }
+
+    private List<WebElement> choose(SearchContext context) {
+        List<By> unique = new ArrayList<>();
+        List<long[]> nanos = new ArrayList<>();
+        List<List<WebElement>> uniqueElements = new ArrayList<>();
+        By firstMatch = null;
+        List<WebElement> firstMatchElements = null;
+
+        for (By candidate : candidates) {
+            long start = System.nanoTime();
+            List<WebElement> elements = context.findElements(candidate);
+            long elapsed = System.nanoTime() - start;
+            if (elements.size() == 1) {
+                long[] samples = new long[SAMPLES];
+                samples[0] = elapsed;
+                unique.add(candidate);
+                nanos.add(samples);
+                uniqueElements.add(elements);
+            }
+            if (firstMatch == null && !elements.isEmpty()) {
+                firstMatch = candidate;
+                firstMatchElements = elements;
+            }
+        }
+
+        if (unique.isEmpty()) {
+            if (firstMatch != null) {
+                CHOSEN.putIfAbsent(key, firstMatch);
+                logger.debug("{} has no unique candidate, using first match {}", key, firstMatch);
+                return firstMatchElements;
+            }
+            return Collections.emptyList();
+        }
+        if (unique.size() == 1) {
+            CHOSEN.putIfAbsent(key, unique.get(0));
+            logger.debug("{} uses {} (only unique candidate)", key, unique.get(0));
+            return uniqueElements.get(0);
+        }
+
+        // Rounds are interleaved so that a slow moment of the browser or the wire hits every candidate alike
+        for (int round = 1; round < SAMPLES; round++) {
+            for (int i = 0; i < unique.size(); i++) {
+                long start = System.nanoTime();
+                List<WebElement> elements = context.findElements(unique.get(i));
+                nanos.get(i)[round] = System.nanoTime() - start;
+                if (elements.size() == 1) {
+                    uniqueElements.set(i, elements);
+                }
+            }
+        }
+        int fastest = 0;
+        long fastestMedian = Long.MAX_VALUE;
+        for (int i = 0; i < unique.size(); i++) {
+            long median = median(nanos.get(i));
+            if (median < fastestMedian) {
+                fastest = i;
+                fastestMedian = median;
+            }
+        }
+        CHOSEN.putIfAbsent(key, unique.get(fastest));
+        logger.debug("{} uses {} (median {} us over {} lookups)", key, unique.get(fastest), fastestMedian / 1000, SAMPLES);
+        return uniqueElements.get(fastest);
+    }
+
+    private static long median(long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    @Override
+    public String toString() {
+        By chosen = CHOSEN.get(key);
+        return chosen != null ? chosen.toString() : "By.candidates: " + candidates;
+    }
+}
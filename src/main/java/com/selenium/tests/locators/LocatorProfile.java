@@ -0,0 +1,63 @@
+package com.selenium.tests.locators;
+
+/**
+ * Timing result for one locator of a page object, produced by {@link LocatorProfiler}
+ */
+public final class LocatorProfile {
+    private final String page;
+    private final String field;
+    private final String locator;
+    private final double medianMillis;
+    private final int matches;
+    private final String suggestion;
+
+    LocatorProfile(String page, String field, String locator, double medianMillis, int matches, String suggestion) {
+        this.page = page;
+        this.field = field;
+        this.locator = locator;
+        this.medianMillis = medianMillis;
+        this.matches = matches;
+        this.suggestion = suggestion;
+    }
+
+    public String getPage() {
+        return page;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getLocator() {
+        return locator;
+    }
+
+    /** Median lookup time over all profiling iterations */
+    public double getMedianMillis() {
+        return medianMillis;
+    }
+
+    /** Number of elements the locator matched on the loaded page */
+    public int getMatches() {
+        return matches;
+    }
+
+    /** Unique CSS selector for the matched element, or null if none could be derived */
+    public String getSuggestion() {
+        return suggestion;
+    }
+
+    public boolean isXPath() {
+        return locator.startsWith("By.xpath");
+    }
+
+    public boolean isSlow(double thresholdMillis) {
+        return medianMillis >= thresholdMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s.%s %s: %.2f ms, %d match(es)%s", page, field, locator, medianMillis, matches,
+            suggestion == null ? "" : ", suggested css: " + suggestion);
+    }
+}
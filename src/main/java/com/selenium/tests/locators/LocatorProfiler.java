@@ -0,0 +1,123 @@
+package com.selenium.tests.locators;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Times every locator of a page object against the page currently loaded in the browser
+ * For each locator it reports the median lookup time, the number of matches and, where possible,
+ * a unique CSS selector for the matched element. CSS suggestions are structural: they identify
+ * the same element on the current page but do not encode the text conditions of an XPath, so
+ * review them before adopting.
+ */
+public class LocatorProfiler {
+    private static final Logger logger = LogManager.getLogger(LocatorProfiler.class);
+
+    private static final String SUGGEST_CSS_SCRIPT =
+        "var el = arguments[0];"
+        + "function unique(s) { try { return document.querySelectorAll(s).length === 1; } catch (e) { return false; } }"
+        + "if (el.id && unique('#' + CSS.escape(el.id))) { return '#' + CSS.escape(el.id); }"
+        + "var tag = el.tagName.toLowerCase();"
+        + "var attrs = ['data-testid', 'name', 'aria-label', 'type', 'placeholder', 'href', 'alt', 'title', 'role'];"
+        + "for (var i = 0; i < attrs.length; i++) {"
+        + "  var v = el.getAttribute(attrs[i]);"
+        + "  if (v) { var s = tag + '[' + attrs[i] + '=\"' + v.replace(/\"/g, '\\\\\"') + '\"]'; if (unique(s)) { return s; } }"
+        + "}"
+        + "var cls = Array.prototype.map.call(el.classList, function (c) { return '.' + CSS.escape(c); }).join('');"
+        + "if (cls && unique(tag + cls)) { return tag + cls; }"
+        + "if (unique(tag)) { return tag; }"
+        + "var path = [], node = el;"
+        + "while (node && node.nodeType === 1 && node !== document.documentElement) {"
+        + "  if (node.id) { path.unshift('#' + CSS.escape(node.id)); break; }"
+        + "  var n = 1, sib = node;"
+        + "  while ((sib = sib.previousElementSibling)) { if (sib.tagName === node.tagName) { n++; } }"
+        + "  path.unshift(node.tagName.toLowerCase() + ':nth-of-type(' + n + ')');"
+        + "  node = node.parentElement;"
+        + "}"
+        + "var sel = path.join(' > ');"
+        + "return unique(sel) ? sel : null;";
+
+    private final WebDriver driver;
+    private final int iterations;
+
+    public LocatorProfiler(WebDriver driver, int iterations) {
+        this.driver = driver;
+        this.iterations = Math.max(1, iterations);
+    }
+
+    /**
+     * Profiles all located WebElement fields of the page object, slowest first
+     * Every candidate of a {@link PreferredLocators} field is profiled separately.
+     */
+    public List<LocatorProfile> profile(Object page) {
+        List<LocatorProfile> results = new ArrayList<>();
+        for (Class<?> type = page.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!WebElement.class.equals(field.getType()) && !List.class.equals(field.getType())) {
+                    continue;
+                }
+                for (By by : locatorsOf(field)) {
+                    results.add(profile(type.getSimpleName(), field.getName(), by));
+                }
+            }
+        }
+        results.sort(Comparator.comparingDouble(LocatorProfile::getMedianMillis).reversed());
+        return results;
+    }
+
+    /**
+     * Formats profiles as a report, flagging locators at or above the threshold
+     */
+    public static String report(List<LocatorProfile> profiles, double slowThresholdMillis) {
+        StringBuilder report = new StringBuilder();
+        for (LocatorProfile profile : profiles) {
+            report.append(profile.isSlow(slowThresholdMillis) ? "SLOW " : "     ").append(profile).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    private LocatorProfile profile(String page, String field, By by) {
+        double[] samples = new double[iterations];
+        List<WebElement> matches = List.of();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            matches = driver.findElements(by);
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        String suggestion = null;
+        if (!matches.isEmpty()) {
+            try {
+                suggestion = (String) ((JavascriptExecutor) driver).executeScript(SUGGEST_CSS_SCRIPT, matches.get(0));
+            } catch (RuntimeException e) {
+                logger.debug("Could not derive CSS selector for {}.{}: {}", page, field, e.getMessage());
+            }
+        }
+        return new LocatorProfile(page, field, by.toString(), samples[samples.length / 2], matches.size(), suggestion);
+    }
+
+    private static List<By> locatorsOf(Field field) {
+        PreferredLocators preferred = field.getAnnotation(PreferredLocators.class);
+        if (preferred != null) {
+            return CandidateAnnotations.buildCandidates(field, preferred);
+        }
+        if (field.getAnnotation(FindBy.class) != null || field.getAnnotation(FindBys.class) != null
+                || field.getAnnotation(FindAll.class) != null) {
+            return List.of(new CandidateAnnotations(field).buildBy());
+        }
+        return List.of();
+    }
+}
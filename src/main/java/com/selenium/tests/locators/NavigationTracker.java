@@ -0,0 +1,29 @@
+package com.selenium.tests.locators;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts navigations per browser session
+ * Cached page elements remember the navigation count at which they were resolved and are
+ * looked up again once the browser has navigated away.
+ */
+public final class NavigationTracker {
+    private static final Map<Object, AtomicLong> EPOCHS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private NavigationTracker() {
+    }
+
+    public static long currentEpoch(Object driver) {
+        return EPOCHS.computeIfAbsent(driver, key -> new AtomicLong()).get();
+    }
+
+    /**
+     * Records that the driver loaded a new document
+     */
+    public static void navigated(Object driver) {
+        EPOCHS.computeIfAbsent(driver, key -> new AtomicLong()).incrementAndGet();
+    }
+}
@@ -0,0 +1,27 @@
+package com.selenium.tests.locators;
+
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.Field;
+
+/**
+ * Element locator factory used by BasePage
+ * Supports {@link PreferredLocators} and caches resolved elements per page instance
+ * (see {@link CachingElementLocator}).
+ */
+public class PageElementLocatorFactory implements ElementLocatorFactory {
+    private final SearchContext searchContext;
+
+    public PageElementLocatorFactory(SearchContext searchContext) {
+        this.searchContext = searchContext;
+    }
+
+    @Override
+    public ElementLocator createLocator(Field field) {
+        return new CachingElementLocator(searchContext,
+            new CandidateAnnotations(field).buildBy(),
+            field.getDeclaringClass().getSimpleName() + "." + field.getName());
+    }
+}
@@ -0,0 +1,31 @@
+package com.selenium.tests.locators;
+
+import org.openqa.selenium.support.FindBy;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares several candidate locators for one page-object field
+ * On first lookup every candidate that matches exactly one element is timed over several lookups; the one
+ * with the lowest median is used from then on. When no candidate is unique, the first candidate (in declaration
+ * order) that matches anything is used. List cheap CSS/ID/link-text locators before XPath fallbacks.
+ * Every candidate must select the same element, since timing decides which one is used: prefer exact
+ * linkText over partialLinkText, which also matches longer link texts.
+ *
+ * Example:
+ * <pre>
+ * &#64;PreferredLocators({
+ *     &#64;FindBy(linkText = "Contact Us"),
+ *     &#64;FindBy(xpath = "//a[normalize-space() = 'Contact Us']")
+ * })
+ * private WebElement contactLink;
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface PreferredLocators {
+    FindBy[] value();
+}
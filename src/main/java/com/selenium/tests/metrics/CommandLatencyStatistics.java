@@ -0,0 +1,114 @@
+package com.selenium.tests.metrics;
+
+import com.selenium.tests.config.FrameworkConfig;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Latency of every WebDriver command, per command type and per page-object method
+ * Each thread records into its own histograms; they are merged only when the report is built.
+ *
+ *   metrics.commandLatency             instrument new drivers (default true)
+ *   metrics.commandLatency.pageMethods attribute commands to the calling page-object method (default true);
+ *                                      off saves a stack walk per command
+ */
+public final class CommandLatencyStatistics {
+    private static final CommandLatencyStatistics INSTANCE = new CommandLatencyStatistics();
+
+    private final boolean enabled = FrameworkConfig.getBoolean("metrics.commandLatency", true);
+    private final boolean pageMethods = FrameworkConfig.getBoolean("metrics.commandLatency.pageMethods", true);
+    private final Queue<ThreadHistograms> allThreads = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<ThreadHistograms> local = ThreadLocal.withInitial(() -> {
+        ThreadHistograms histograms = new ThreadHistograms();
+        allThreads.add(histograms);
+        return histograms;
+    });
+
+    private CommandLatencyStatistics() {
+    }
+
+    public static CommandLatencyStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether commands are also recorded per page-object method; callers only resolve the method when true
+     */
+    public boolean recordsPageMethods() {
+        return pageMethods;
+    }
+
+    /**
+     * @param command     command type, e.g. "element.click"
+     * @param pageMethod  page-object method that issued the command (e.g. "HomePage.clickAboutLink"), or null
+     */
+    public void record(String command, String pageMethod, long elapsedNanos) {
+        ThreadHistograms histograms = local.get();
+        synchronized (histograms) {
+            histograms.byCommand.computeIfAbsent(command, key -> new LatencyHistogram()).record(elapsedNanos);
+            if (pageMethod != null) {
+                histograms.byPageMethod.computeIfAbsent(pageMethod, key -> new LatencyHistogram()).record(elapsedNanos);
+            }
+        }
+    }
+
+    public Map<String, LatencyHistogram> getByCommand() {
+        return merge(true);
+    }
+
+    public Map<String, LatencyHistogram> getByPageMethod() {
+        return merge(false);
+    }
+
+    public boolean isEmpty() {
+        return getByCommand().isEmpty();
+    }
+
+    /**
+     * Returns percentile tables per command and per page-object method, highest total time first
+     * Page-method rows describe the individual commands the method issued.
+     */
+    public String getSummary() {
+        return table("command", getByCommand()) + System.lineSeparator() + table("page method (per command)", getByPageMethod());
+    }
+
+    private Map<String, LatencyHistogram> merge(boolean byCommand) {
+        Map<String, LatencyHistogram> merged = new HashMap<>();
+        for (ThreadHistograms histograms : allThreads) {
+            synchronized (histograms) {
+                (byCommand ? histograms.byCommand : histograms.byPageMethod).forEach((key, histogram) ->
+                    merged.computeIfAbsent(key, k -> new LatencyHistogram()).merge(histogram));
+            }
+        }
+        return merged;
+    }
+
+    private static String table(String title, Map<String, LatencyHistogram> histograms) {
+        List<Map.Entry<String, LatencyHistogram>> sorted = new ArrayList<>(histograms.entrySet());
+        sorted.sort(Comparator.comparingDouble((Map.Entry<String, LatencyHistogram> e) -> e.getValue().getTotalMillis()).reversed());
+        StringBuilder summary = new StringBuilder(String.format("%-50s %8s %10s %8s %8s %8s %8s%n",
+            title, "count", "total ms", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (Map.Entry<String, LatencyHistogram> e : sorted) {
+            LatencyHistogram histogram = e.getValue();
+            summary.append(String.format("%-50s %8d %10.0f %8.1f %8.1f %8.1f %8.1f%n",
+                e.getKey(), histogram.getCount(), histogram.getTotalMillis(), histogram.getPercentileMillis(50),
+                histogram.getPercentileMillis(95), histogram.getPercentileMillis(99), histogram.getMaxMillis()));
+        }
+        return summary.toString();
+    }
+
+    private static final class ThreadHistograms {
+        private final Map<String, LatencyHistogram> byCommand = new HashMap<>();
+        private final Map<String, LatencyHistogram> byPageMethod = new HashMap<>();
+    }
+}
@@ -0,0 +1,108 @@
+package com.selenium.tests.metrics;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+/**
+ * WebDriverListener that times every WebDriver command made through an EventFiringDecorator
+ * Object methods (toString, hashCode, equals) and unwrapping calls never reach the browser and are not timed.
+ * Commands are attributed to the innermost page-object method on the call stack, i.e. the first
+ * frame of a strict subclass of the given page base class; the stack is only walked when
+ * {@link CommandLatencyStatistics#recordsPageMethods()} is on.
+ */
+public class CommandTimingListener implements WebDriverListener {
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final Class<?> pageBaseClass;
+    private final CommandLatencyStatistics statistics = CommandLatencyStatistics.getInstance();
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public CommandTimingListener(Class<?> pageBaseClass) {
+        this.pageBaseClass = pageBaseClass;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (isCommand(method)) {
+            startTimes.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(target, method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(target, method);
+    }
+
+    private void finish(Object target, Method method) {
+        if (!isCommand(method)) {
+            return;
+        }
+        Long start = startTimes.get().poll();
+        if (start == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        String pageMethod = statistics.recordsPageMethods() ? pageMethod().orElse(null) : null;
+        statistics.record(commandName(target, method), pageMethod, elapsed);
+    }
+
+    /**
+     * Whether the call is a WebDriver API call rather than a local Object or unwrapping method
+     */
+    private static boolean isCommand(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        return declaringClass != Object.class && declaringClass != WrapsDriver.class && declaringClass != WrapsElement.class;
+    }
+
+    static String commandName(Object target, Method method) {
+        String prefix;
+        if (target instanceof WebElement) {
+            prefix = "element.";
+        } else if (target instanceof WebDriver.Navigation) {
+            prefix = "navigate.";
+        } else if (target instanceof WebDriver.TargetLocator) {
+            prefix = "switchTo.";
+        } else if (target instanceof WebDriver.Options || target instanceof WebDriver.Timeouts
+            || target instanceof WebDriver.Window) {
+            prefix = "manage.";
+        } else if (target instanceof Alert) {
+            prefix = "alert.";
+        } else {
+            prefix = "driver.";
+        }
+        return prefix + method.getName();
+    }
+
+    private Optional<String> pageMethod() {
+        return STACK_WALKER.walk(frames -> frames
+            .filter(frame -> frame.getDeclaringClass() != pageBaseClass && pageBaseClass.isAssignableFrom(frame.getDeclaringClass()))
+            .findFirst()
+            .map(frame -> frame.getDeclaringClass().getSimpleName() + "." + enclosingMethod(frame.getMethodName())));
+    }
+
+    /**
+     * Maps lambda bodies such as "lambda$waitUntilLoaded$0" back to the method that declared them
+     */
+    private static String enclosingMethod(String methodName) {
+        if (methodName.startsWith("lambda$")) {
+            int end = methodName.indexOf('$', 7);
+            return end > 7 ? methodName.substring(7, end) : methodName;
+        }
+        return methodName;
+    }
+}
@@ -0,0 +1,57 @@
+package com.selenium.tests.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit/miss counters for the page-object element cache
+ */
+public final class ElementCacheStatistics {
+    private static final ElementCacheStatistics INSTANCE = new ElementCacheStatistics();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder staleRecoveries = new LongAdder();
+
+    private ElementCacheStatistics() {
+    }
+
+    public static ElementCacheStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+
+    public void staleRecovery() {
+        staleRecoveries.increment();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /** Number of times a cached element was stale and had to be resolved again */
+    public long getStaleRecoveries() {
+        return staleRecoveries.sum();
+    }
+
+    public double getHitRatio() {
+        long total = getHits() + getMisses();
+        return total == 0 ? 0.0 : getHits() / (double) total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, misses=%d, staleRecoveries=%d, hitRatio=%.0f%%",
+            getHits(), getMisses(), getStaleRecoveries(), getHitRatio() * 100);
+    }
+}
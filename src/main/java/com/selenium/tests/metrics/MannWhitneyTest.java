@@ -0,0 +1,69 @@
+package com.selenium.tests.metrics;
+
+import java.util.Arrays;
+
+/**
+ * One-sided Mann-Whitney U test (normal approximation with tie and continuity correction)
+ * Rank-based, so a few outliers in either sample do not decide the outcome.
+ */
+final class MannWhitneyTest {
+
+    private MannWhitneyTest() {
+    }
+
+    /**
+     * Probability of seeing samples at least this much larger than the baseline if both came from
+     * the same distribution; small values mean the current samples are larger
+     */
+    static double pValueGreater(double[] current, double[] baseline) {
+        int n1 = current.length;
+        int n2 = baseline.length;
+        int n = n1 + n2;
+        double[][] pooled = new double[n][];
+        for (int i = 0; i < n1; i++) {
+            pooled[i] = new double[] {current[i], 1};
+        }
+        for (int i = 0; i < n2; i++) {
+            pooled[n1 + i] = new double[] {baseline[i], 0};
+        }
+        Arrays.sort(pooled, (a, b) -> Double.compare(a[0], b[0]));
+
+        double rankSumCurrent = 0;
+        double tieTerm = 0;
+        for (int i = 0; i < n; ) {
+            int j = i;
+            while (j + 1 < n && pooled[j + 1][0] == pooled[i][0]) {
+                j++;
+            }
+            double averageRank = (i + j) / 2.0 + 1;
+            int ties = j - i + 1;
+            tieTerm += (double) ties * ties * ties - ties;
+            for (int k = i; k <= j; k++) {
+                if (pooled[k][1] == 1) {
+                    rankSumCurrent += averageRank;
+                }
+            }
+            i = j + 1;
+        }
+
+        double u = rankSumCurrent - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2;
+        double variance = n1 * (double) n2 / 12 * ((n + 1) - tieTerm / ((double) n * (n - 1)));
+        if (variance <= 0) {
+            return 1.0;
+        }
+        double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return 1 - standardNormalCdf(z);
+    }
+
+    /**
+     * Abramowitz and Stegun 7.1.26, accurate to about 1e-7
+     */
+    private static double standardNormalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429))))
+            * Math.exp(-x * x);
+        return z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+}
@@ -0,0 +1,46 @@
+package com.selenium.tests.metrics;
+
+import com.selenium.tests.config.FrameworkConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Location of the per-run metrics files
+ *
+ *   metrics.dir  output directory (default target/metrics)
+ */
+public final class MetricsOutput {
+
+    private MetricsOutput() {
+    }
+
+    /**
+     * Returns the path of a metrics file, creating the metrics directory if needed
+     */
+    public static Path resolve(String fileName) {
+        Path dir = Paths.get(FrameworkConfig.getString("metrics.dir", "target/metrics"));
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create metrics directory " + dir, e);
+        }
+        return dir.resolve(fileName);
+    }
+
+    /**
+     * Writes a report file, replacing any previous content
+     */
+    public static Path write(String fileName, String content) {
+        Path file = resolve(fileName);
+        try {
+            Files.writeString(file, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write metrics file " + file, e);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,100 @@
+package com.selenium.tests.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Navigation Timing and Paint Timing of one page load, in milliseconds relative to navigation start
+ * Values the browser has not reported yet (e.g. load with an eager page load strategy) are null.
+ * A soft navigation is a URL change without a new document (client-side routing); it carries no timings.
+ */
+public final class NavigationTiming {
+    private final String page;
+    private final String url;
+    private final boolean softNavigation;
+    private final Double timeToFirstByte;
+    private final Double domContentLoaded;
+    private final Double load;
+    private final Double firstContentfulPaint;
+    private final long transferBytes;
+    private final int requestCount;
+
+    NavigationTiming(String page, String url, boolean softNavigation, Double timeToFirstByte, Double domContentLoaded,
+                     Double load, Double firstContentfulPaint, long transferBytes, int requestCount) {
+        this.page = page;
+        this.url = url;
+        this.softNavigation = softNavigation;
+        this.timeToFirstByte = timeToFirstByte;
+        this.domContentLoaded = domContentLoaded;
+        this.load = load;
+        this.firstContentfulPaint = firstContentfulPaint;
+        this.transferBytes = transferBytes;
+        this.requestCount = requestCount;
+    }
+
+    public String getPage() {
+        return page;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public boolean isSoftNavigation() {
+        return softNavigation;
+    }
+
+    public Double getTimeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    public Double getDomContentLoaded() {
+        return domContentLoaded;
+    }
+
+    public Double getLoad() {
+        return load;
+    }
+
+    public Double getFirstContentfulPaint() {
+        return firstContentfulPaint;
+    }
+
+    /** Bytes transferred for the document and all resources loaded so far */
+    public long getTransferBytes() {
+        return transferBytes;
+    }
+
+    /** Document plus resource requests recorded by Resource Timing */
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("page", page);
+        map.put("url", url);
+        map.put("softNavigation", softNavigation);
+        map.put("ttfbMs", timeToFirstByte);
+        map.put("domContentLoadedMs", domContentLoaded);
+        map.put("loadMs", load);
+        map.put("firstContentfulPaintMs", firstContentfulPaint);
+        map.put("transferBytes", transferBytes);
+        map.put("requestCount", requestCount);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        if (softNavigation) {
+            return page + " (soft navigation to " + url + ")";
+        }
+        return String.format("%s ttfb=%s dcl=%s load=%s fcp=%s bytes=%d requests=%d", page,
+            format(timeToFirstByte), format(domContentLoaded), format(load), format(firstContentfulPaint),
+            transferBytes, requestCount);
+    }
+
+    private static String format(Double millis) {
+        return millis == null ? "n/a" : String.format("%.0fms", millis);
+    }
+}
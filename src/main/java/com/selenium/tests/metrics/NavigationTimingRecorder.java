@@ -0,0 +1,171 @@
+package com.selenium.tests.metrics;
+
+import com.selenium.tests.config.FrameworkConfig;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Collects Navigation Timing and Paint Timing entries of each page load
+ * Every timing is attached to the running TestNG result (attribute "navigationTimings") and appended
+ * to target/metrics/navigation-timings.jsonl. Full page loads are also samples for {@link PerformanceBudgets}.
+ * The entries are read lazily, without waiting for the load event: a page load is only noted when it starts,
+ * and its timing is read just before the browser leaves the document (next navigation) or at test end.
+ *
+ *   metrics.navigationTiming  enable capture (default true)
+ */
+public final class NavigationTimingRecorder {
+    private static final Logger logger = LogManager.getLogger(NavigationTimingRecorder.class);
+    private static final NavigationTimingRecorder INSTANCE = new NavigationTimingRecorder();
+
+    public static final String RESULT_ATTRIBUTE = "navigationTimings";
+
+    private static final String TIMING_SCRIPT =
+        "var nav = performance.getEntriesByType('navigation')[0];"
+        + "var paint = {};"
+        + "performance.getEntriesByType('paint').forEach(function (p) { paint[p.name] = p.startTime; });"
+        + "var resources = performance.getEntriesByType('resource');"
+        + "var bytes = nav ? (nav.transferSize || 0) : 0;"
+        + "resources.forEach(function (r) { bytes += r.transferSize || 0; });"
+        + "return {"
+        + "  timeOrigin: String(performance.timeOrigin),"
+        + "  url: location.href,"
+        + "  ttfb: nav ? nav.responseStart - nav.startTime : null,"
+        + "  domContentLoaded: nav && nav.domContentLoadedEventEnd > 0 ? nav.domContentLoadedEventEnd : null,"
+        + "  load: nav && nav.loadEventEnd > 0 ? nav.loadEventEnd : null,"
+        + "  fcp: paint['first-contentful-paint'] || null,"
+        + "  transferBytes: bytes,"
+        + "  requestCount: resources.length + 1"
+        + "};";
+
+    private final boolean enabled = FrameworkConfig.getBoolean("metrics.navigationTiming", true);
+    private final Map<WebDriver, String> pendingPage = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<WebDriver, String> lastTimeOrigin = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Json json = new Json();
+    private BufferedWriter writer;
+
+    private NavigationTimingRecorder() {
+    }
+
+    public static NavigationTimingRecorder getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Notes that the browser is loading a page; its timing is read by the next {@link #collect(WebDriver)}
+     */
+    public void navigated(WebDriver driver, String page) {
+        if (enabled) {
+            pendingPage.put(driver, page);
+        }
+    }
+
+    /**
+     * Records the timing of the page noted last, if any, under the current test
+     * Call before the browser leaves the document; costs one round trip only when a page load is pending.
+     */
+    public NavigationTiming collect(WebDriver driver) {
+        return collect(driver, Reporter.getCurrentTestResult());
+    }
+
+    /**
+     * Records the timing of the page noted last, if any, under the given test result
+     */
+    public NavigationTiming collect(WebDriver driver, ITestResult result) {
+        String page = pendingPage.remove(driver);
+        if (page == null) {
+            return null;
+        }
+        Map<?, ?> raw;
+        try {
+            raw = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(TIMING_SCRIPT);
+        } catch (RuntimeException e) {
+            logger.debug("Could not read navigation timing for {}: {}", page, e.getMessage());
+            return null;
+        }
+        String timeOrigin = (String) raw.get("timeOrigin");
+        boolean soft = timeOrigin != null && timeOrigin.equals(lastTimeOrigin.put(driver, timeOrigin));
+        NavigationTiming timing = soft
+            ? new NavigationTiming(page, (String) raw.get("url"), true, null, null, null, null, 0, 0)
+            : new NavigationTiming(page, (String) raw.get("url"), false,
+                toDouble(raw.get("ttfb")), toDouble(raw.get("domContentLoaded")), toDouble(raw.get("load")),
+                toDouble(raw.get("fcp")), toLong(raw.get("transferBytes")), (int) toLong(raw.get("requestCount")));
+        record(timing, result);
+        return timing;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void record(NavigationTiming timing, ITestResult result) {
+        logger.info("Navigation timing: {}", timing);
+        PerformanceBudgets.getInstance().record(timing);
+        String testName = null;
+        if (result != null) {
+            testName = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+            synchronized (result) {
+                List<Map<String, Object>> timings = (List<Map<String, Object>>) result.getAttribute(RESULT_ATTRIBUTE);
+                if (timings == null) {
+                    timings = new ArrayList<>();
+                    result.setAttribute(RESULT_ATTRIBUTE, timings);
+                }
+                timings.add(timing.toMap());
+            }
+        }
+        Map<String, Object> line = timing.toMap();
+        line.put("test", testName);
+        line.put("thread", Thread.currentThread().getName());
+        line.put("timestamp", System.currentTimeMillis());
+        append(json.toJson(line).replace('\n', ' '));
+    }
+
+    private synchronized void append(String line) {
+        try {
+            if (writer == null) {
+                Path file = MetricsOutput.resolve("navigation-timings.jsonl");
+                writer = Files.newBufferedWriter(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            }
+            writer.write(line);
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            logger.warn("Could not write navigation timing: {}", e.getMessage());
+        }
+    }
+
+    public synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.debug("Could not close navigation timing file: {}", e.getMessage());
+            }
+            writer = null;
+        }
+    }
+
+    private static Double toDouble(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+}
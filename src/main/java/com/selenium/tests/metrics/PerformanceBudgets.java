@@ -0,0 +1,209 @@
+package com.selenium.tests.metrics;
+
+import com.selenium.tests.config.FrameworkConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Per-page performance budgets evaluated over all page loads of a run
+ * Samples come from {@link NavigationTimingRecorder} (every full page load, keyed by page name).
+ * At the end of the suite each budgeted page metric is checked twice:
+ *   - the median of the run's samples must not exceed the budget
+ *   - the samples must not be significantly larger than the stored baseline samples (one-sided
+ *     Mann-Whitney U test at perf.alpha, and a median increase of at least perf.minRegression)
+ * A single slow load therefore never breaches a budget on its own.
+ *
+ *   perf.budgets         off, warn or fail (default warn)
+ *   perf.budgets.file    budgets, e.g. HomePage.loadMs=5000 (default src/test/performance/budgets.properties)
+ *   perf.baseline.file   baseline samples (default src/test/performance/baseline.properties)
+ *   perf.updateBaseline  replace the baseline with this run's samples (default false)
+ *   perf.minSamples      samples needed on each side for the statistical comparison (default 5)
+ *   perf.alpha           significance level (default 0.05)
+ *   perf.minRegression   smallest median increase reported as a regression (default 0.10 = 10%)
+ *
+ * Metrics are the keys of {@link NavigationTiming#toMap()}: loadMs, domContentLoadedMs, ttfbMs,
+ * firstContentfulPaintMs, transferBytes and requestCount.
+ */
+public final class PerformanceBudgets {
+    private static final Logger logger = LogManager.getLogger(PerformanceBudgets.class);
+    private static final PerformanceBudgets INSTANCE = new PerformanceBudgets();
+
+    public enum Mode {
+        OFF,
+        WARN,
+        FAIL
+    }
+
+    private final Mode mode = Mode.valueOf(FrameworkConfig.getString("perf.budgets", "warn").toUpperCase(Locale.ROOT));
+    private final Path budgetsFile = Paths.get(FrameworkConfig.getString("perf.budgets.file", "src/test/performance/budgets.properties"));
+    private final Path baselineFile = Paths.get(FrameworkConfig.getString("perf.baseline.file", "src/test/performance/baseline.properties"));
+    private final int minSamples = FrameworkConfig.getInt("perf.minSamples", 5);
+    private final double alpha = Double.parseDouble(FrameworkConfig.getString("perf.alpha", "0.05"));
+    private final double minRegression = Double.parseDouble(FrameworkConfig.getString("perf.minRegression", "0.10"));
+
+    /** page.metric -> samples of this run */
+    private final Map<String, List<Double>> samples = new TreeMap<>();
+    private boolean evaluated;
+
+    private PerformanceBudgets() {
+    }
+
+    public static PerformanceBudgets getInstance() {
+        return INSTANCE;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Adds the metrics of one full page load to the run's samples
+     */
+    synchronized void record(NavigationTiming timing) {
+        if (mode == Mode.OFF || timing.isSoftNavigation()) {
+            return;
+        }
+        for (Map.Entry<String, Object> metric : timing.toMap().entrySet()) {
+            if (metric.getValue() instanceof Number) {
+                samples.computeIfAbsent(timing.getPage() + "." + metric.getKey(), key -> new ArrayList<>())
+                    .add(((Number) metric.getValue()).doubleValue());
+            }
+        }
+    }
+
+    /**
+     * Checks the run's samples against the budgets and the baseline, writes target/metrics/performance-budgets.txt
+     * and, if requested, stores the samples as the new baseline. Runs once per JVM.
+     *
+     * @return the breaches found (empty when within budget or when budgets are off)
+     * @throws AssertionError in fail mode when a budget is breached
+     */
+    public synchronized List<String> verify() {
+        if (mode == Mode.OFF || evaluated) {
+            return List.of();
+        }
+        evaluated = true;
+        Properties budgets = load(budgetsFile);
+        if (budgets.isEmpty()) {
+            logger.debug("No performance budgets in {}", budgetsFile);
+            return List.of();
+        }
+        Properties baseline = load(baselineFile);
+        List<String> breaches = new ArrayList<>();
+        StringBuilder report = new StringBuilder(String.format("%-36s %8s %12s %12s %12s %10s  %s%n",
+            "Page metric", "Samples", "Median", "Budget", "Baseline", "p-value", "Result"));
+
+        for (String key : new TreeSet<>(budgets.stringPropertyNames())) {
+            double budget = Double.parseDouble(budgets.getProperty(key).trim());
+            double[] current = toArray(samples.get(key));
+            double[] before = parseSamples(baseline.getProperty(key));
+            if (current.length == 0) {
+                report.append(String.format("%-36s %8d %12s %12.0f %12s %10s  %s%n", key, 0, "-", budget, "-", "-", "no samples"));
+                continue;
+            }
+            double median = median(current);
+            String result = "ok";
+            if (median > budget) {
+                result = "over budget";
+                breaches.add(String.format("%s median %.0f exceeds budget %.0f (%d samples)", key, median, budget, current.length));
+            }
+            String baselineMedian = "-";
+            String pValue = "-";
+            if (current.length >= minSamples && before.length >= minSamples) {
+                double p = MannWhitneyTest.pValueGreater(current, before);
+                double change = median / median(before) - 1;
+                baselineMedian = String.format("%.0f", median(before));
+                pValue = String.format("%.4f", p);
+                if (p < alpha && change >= minRegression) {
+                    result = result.equals("ok") ? "regression" : result + ", regression";
+                    breaches.add(String.format("%s median %.0f is %.0f%% above baseline %.0f (p=%.4f)",
+                        key, median, change * 100, median(before), p));
+                }
+            }
+            report.append(String.format("%-36s %8d %12.0f %12.0f %12s %10s  %s%n",
+                key, current.length, median, budget, baselineMedian, pValue, result));
+        }
+
+        Path file = MetricsOutput.write("performance-budgets.txt", report.toString());
+        if (FrameworkConfig.getBoolean("perf.updateBaseline", false)) {
+            saveBaseline();
+        }
+        if (breaches.isEmpty()) {
+            logger.info("Performance budgets met; see {}", file);
+            return breaches;
+        }
+        breaches.forEach(breach -> logger.warn("Performance budget breached: {}", breach));
+        if (mode == Mode.FAIL) {
+            throw new AssertionError(breaches.size() + " performance budget(s) breached; see " + file
+                + System.lineSeparator() + String.join(System.lineSeparator(), breaches));
+        }
+        return breaches;
+    }
+
+    private void saveBaseline() {
+        Properties baseline = load(baselineFile);
+        samples.forEach((key, values) -> {
+            if (values.size() >= minSamples) {
+                baseline.setProperty(key, values.stream().map(v -> String.format(Locale.ROOT, "%.1f", v)).collect(Collectors.joining(",")));
+            }
+        });
+        try {
+            if (baselineFile.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(baselineFile)) {
+                baseline.store(writer, "Page load samples used as the performance baseline (page.metric=samples)");
+            }
+            logger.info("Performance baseline updated: {}", baselineFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write performance baseline " + baselineFile, e);
+        }
+    }
+
+    private static Properties load(Path file) {
+        Properties properties = new Properties();
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read " + file, e);
+            }
+        }
+        return properties;
+    }
+
+    private static double[] parseSamples(String value) {
+        if (value == null || value.isBlank()) {
+            return new double[0];
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).mapToDouble(Double::parseDouble).toArray();
+    }
+
+    private static double[] toArray(List<Double> values) {
+        return values == null ? new double[0] : values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+}
@@ -0,0 +1,70 @@
+package com.selenium.tests.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated time spent in explicit waits, keyed by synchronization point (e.g. "AboutPage.waitForVisible")
+ * Used to find the slowest places where tests wait for the browser
+ */
+public final class WaitStatistics {
+    private static final WaitStatistics INSTANCE = new WaitStatistics();
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private WaitStatistics() {
+    }
+
+    public static WaitStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    public void record(String description, long elapsedNanos, boolean satisfied) {
+        entries.computeIfAbsent(description, key -> new Entry()).add(elapsedNanos, satisfied);
+    }
+
+    /**
+     * Returns a table of all synchronization points, slowest (by total time) first
+     */
+    public String getSummary() {
+        List<Map.Entry<String, Entry>> sorted = new ArrayList<>(entries.entrySet());
+        sorted.sort(Comparator.comparingLong((Map.Entry<String, Entry> e) -> e.getValue().totalNanos.sum()).reversed());
+        StringBuilder summary = new StringBuilder(String.format("%-50s %8s %10s %10s %10s %9s%n",
+            "wait", "count", "total ms", "avg ms", "max ms", "timeouts"));
+        for (Map.Entry<String, Entry> e : sorted) {
+            Entry entry = e.getValue();
+            long count = entry.count.sum();
+            long totalMillis = TimeUnit.NANOSECONDS.toMillis(entry.totalNanos.sum());
+            summary.append(String.format("%-50s %8d %10d %10d %10d %9d%n",
+                e.getKey(), count, totalMillis, count == 0 ? 0 : totalMillis / count,
+                TimeUnit.NANOSECONDS.toMillis(entry.maxNanos.get()), entry.timeouts.sum()));
+        }
+        return summary.toString();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    private static final class Entry {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void add(long elapsedNanos, boolean satisfied) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            if (!satisfied) {
+                timeouts.increment();
+            }
+        }
+    }
+}
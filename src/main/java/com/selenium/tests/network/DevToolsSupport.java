@@ -0,0 +1,60 @@
+package com.selenium.tests.network;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Version-independent access to the Chrome DevTools Protocol
+ * Commands and events are addressed by their CDP names with plain maps as parameters, so the
+ * framework does not depend on one of Selenium's generated devtools.vNNN packages.
+ */
+public final class DevToolsSupport {
+
+    private DevToolsSupport() {
+    }
+
+    /**
+     * Returns a DevTools connection with an attached session, or empty if the driver does not support CDP
+     */
+    public static Optional<DevTools> open(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            return Optional.empty();
+        }
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        return Optional.of(devTools);
+    }
+
+    public static void send(DevTools devTools, String method, Map<String, Object> params) {
+        devTools.send(new Command<Void>(method, params));
+    }
+
+    public static Map<String, Object> call(DevTools devTools, String method, Map<String, Object> params) {
+        return devTools.send(new Command<Map<String, Object>>(method, params, Json.MAP_TYPE));
+    }
+
+    public static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    /**
+     * Reads a nested value such as "request.url" from CDP event parameters
+     */
+    public static Object get(Map<String, Object> params, String path) {
+        Object current = params;
+        for (String key : path.split("\\.")) {
+            if (!(current instanceof Map)) {
+                return null;
+            }
+            current = ((Map<?, ?>) current).get(key);
+        }
+        return current;
+    }
+}
@@ -0,0 +1,566 @@
+package com.selenium.tests.network;
+
+import com.selenium.tests.concurrent.ThreadingSupport;
+import com.selenium.tests.config.FrameworkConfig;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.json.Json;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Records a HAR (HTTP Archive 1.2) file per test from the DevTools Network domain
+ * Every request's timing, size, status, server address and initiator is captured. Completed entries are
+ * appended to a per-test file as they finish, so only requests still in flight are held in memory.
+ *
+ *   network.har             off, always (a HAR per test) or failure (only for failed tests) (default off)
+ *   network.har.dir         output directory (default target/har)
+ *   network.har.bodies      also record response bodies (default false)
+ *   network.har.maxBodyMb   bodies announced larger than this (Content-Length) are not recorded (default 5)
+ *
+ * Response bodies are streamed to disk in chunks (Fetch.takeResponseBodyAsStream and IO.read) into a
+ * &lt;har&gt;.bodies directory next to the HAR, referenced from each entry's content._file. A streamed body
+ * can no longer reach the page on its own, so it is handed back with Fetch.fulfillRequest, which briefly
+ * holds that one body in memory. Body recording pauses every response, and is skipped when the
+ * {@link NetworkPolicy} already intercepts requests. The slowest and heaviest requests of the run are listed
+ * by {@link HarSummary}.
+ */
+public class HarRecorder {
+    private static final Logger logger = LogManager.getLogger(HarRecorder.class);
+    private static final Map<WebDriver, HarRecorder> RECORDERS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    public enum Mode {
+        OFF,
+        ALWAYS,
+        FAILURE
+    }
+
+    private static final Mode MODE = Mode.valueOf(FrameworkConfig.getString("network.har", "off").toUpperCase(Locale.ROOT));
+    private static final boolean BODIES = FrameworkConfig.getBoolean("network.har.bodies", false);
+    private static final long MAX_BODY_BYTES = FrameworkConfig.getInt("network.har.maxBodyMb", 5) * 1024L * 1024L;
+    private static final int READ_CHUNK_BYTES = 64 * 1024;
+    private static final ExecutorService BODY_READERS = ThreadingSupport.newCachedExecutor("har-body");
+
+    private final Path dir = Paths.get(FrameworkConfig.getString("network.har.dir", "target/har"));
+    private final Json json = new Json();
+    private final Map<String, PendingRequest> pending = new ConcurrentHashMap<>();
+    private final Map<String, Path> bodyFiles = new ConcurrentHashMap<>();
+    private String testName;
+    private String harName;
+    private Instant testStarted;
+    private Path entriesFile;
+    private Path bodiesDir;
+    private BufferedWriter entries;
+    private int entryCount;
+
+    private HarRecorder() {
+    }
+
+    public static Mode getMode() {
+        return MODE;
+    }
+
+    /**
+     * Subscribes a recorder to a freshly started browser; does nothing when HAR recording is off
+     */
+    public static void install(WebDriver driver) {
+        if (MODE == Mode.OFF) {
+            return;
+        }
+        Optional<DevTools> maybeDevTools = DevToolsSupport.open(driver);
+        if (maybeDevTools.isEmpty()) {
+            logger.warn("HAR recording '{}' ignored: driver does not support DevTools", MODE);
+            return;
+        }
+        DevTools devTools = maybeDevTools.get();
+        HarRecorder recorder = new HarRecorder();
+        devTools.addListener(DevToolsSupport.event("Network.requestWillBeSent"), recorder::requestWillBeSent);
+        devTools.addListener(DevToolsSupport.event("Network.responseReceived"), params ->
+            recorder.withPending(params, request -> request.response = map(params.get("response"))));
+        devTools.addListener(DevToolsSupport.event("Network.dataReceived"), params ->
+            recorder.withPending(params, request -> request.dataLength += toLong(params.get("dataLength"))));
+        devTools.addListener(DevToolsSupport.event("Network.loadingFinished"), params ->
+            recorder.complete((String) params.get("requestId"), toDouble(params.get("timestamp")),
+                toLong(params.get("encodedDataLength")), null));
+        devTools.addListener(DevToolsSupport.event("Network.loadingFailed"), params ->
+            recorder.complete((String) params.get("requestId"), toDouble(params.get("timestamp")), 0,
+                (String) params.get("errorText")));
+        DevToolsSupport.send(devTools, "Network.enable", new HashMap<>());
+        if (BODIES) {
+            recorder.installBodyCapture(devTools);
+        }
+        RECORDERS.put(driver, recorder);
+    }
+
+    /**
+     * Pauses every response so its body can be streamed to disk before the page receives it
+     */
+    private void installBodyCapture(DevTools devTools) {
+        if (NetworkPolicy.getInstance().interceptsRequests()) {
+            logger.warn("HAR response bodies not recorded: the network policy already intercepts requests");
+            return;
+        }
+        devTools.addListener(DevToolsSupport.event("Fetch.requestPaused"), params ->
+            BODY_READERS.execute(() -> captureBody(devTools, params)));
+        Map<String, Object> pattern = new HashMap<>();
+        pattern.put("urlPattern", "*");
+        pattern.put("requestStage", "Response");
+        Map<String, Object> params = new HashMap<>();
+        params.put("patterns", List.of(pattern));
+        DevToolsSupport.send(devTools, "Fetch.enable", params);
+    }
+
+    /**
+     * Returns the recorder of a browser, looking through decorated drivers
+     */
+    public static Optional<HarRecorder> of(WebDriver driver) {
+        HarRecorder recorder = RECORDERS.get(driver);
+        if (recorder == null && driver instanceof WrapsDriver) {
+            recorder = RECORDERS.get(((WrapsDriver) driver).getWrappedDriver());
+        }
+        return Optional.ofNullable(recorder);
+    }
+
+    /**
+     * Starts a new HAR for the test that has just leased the browser
+     */
+    public synchronized void start(String testName) {
+        discard();
+        pending.clear();
+        bodyFiles.clear();
+        this.testName = testName;
+        this.harName = testName + "-" + SEQUENCE.incrementAndGet();
+        this.testStarted = Instant.now();
+        this.entryCount = 0;
+        try {
+            Files.createDirectories(dir);
+            entriesFile = Files.createTempFile(dir, "." + testName + "-", ".entries");
+            entries = Files.newBufferedWriter(entriesFile);
+            if (BODIES) {
+                bodiesDir = Files.createDirectories(dir.resolve(harName + ".bodies"));
+            }
+        } catch (IOException e) {
+            logger.warn("Could not start HAR recording for {}: {}", testName, e.getMessage());
+            entries = null;
+        }
+    }
+
+    /**
+     * Ends the test's HAR; keeps it as target/har/&lt;test&gt;-&lt;n&gt;.har when the mode asks for it
+     *
+     * @return the HAR file, or empty when it was not kept
+     */
+    public synchronized Optional<Path> finish(boolean failed) {
+        if (entries == null) {
+            return Optional.empty();
+        }
+        if (MODE != Mode.ALWAYS && !(MODE == Mode.FAILURE && failed)) {
+            discard();
+            deleteBodies();
+            return Optional.empty();
+        }
+        Path har = dir.resolve(harName + ".har");
+        try {
+            entries.close();
+            entries = null;
+            try (Writer out = Files.newBufferedWriter(har)) {
+                Map<String, Object> page = new LinkedHashMap<>();
+                page.put("startedDateTime", testStarted.toString());
+                page.put("id", "page_1");
+                page.put("title", testName);
+                page.put("pageTimings", new LinkedHashMap<>());
+                out.write("{\"log\": {\"version\": \"1.2\", \"creator\": {\"name\": \"selenium-framework-tests\", \"version\": \"1.0.0\"}, ");
+                out.write("\"pages\": [" + toJson(page) + "], \"entries\": [\n");
+                try (Reader in = Files.newBufferedReader(entriesFile)) {
+                    in.transferTo(out);
+                }
+                out.write("\n]}}\n");
+            }
+            logger.info("HAR with {} entries written to {}", entryCount, har);
+            bodiesDir = null;
+            return Optional.of(har);
+        } catch (IOException e) {
+            logger.warn("Could not write HAR {}: {}", har, e.getMessage());
+            deleteBodies();
+            return Optional.empty();
+        } finally {
+            discard();
+        }
+    }
+
+    private void deleteBodies() {
+        if (bodiesDir == null) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(bodiesDir)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(bodiesDir);
+        } catch (IOException e) {
+            logger.debug("Could not delete {}: {}", bodiesDir, e.getMessage());
+        }
+        bodiesDir = null;
+    }
+
+    /**
+     * Streams a paused response's body to the test's bodies directory, then hands the response to the page
+     */
+    private void captureBody(DevTools devTools, Map<String, Object> params) {
+        String requestId = (String) params.get("requestId");
+        Path target = bodyTarget(params);
+        if (target == null) {
+            continueRequest(devTools, requestId);
+            return;
+        }
+        Map<String, Object> takeParams = new HashMap<>();
+        takeParams.put("requestId", requestId);
+        String stream;
+        try {
+            stream = (String) DevToolsSupport.call(devTools, "Fetch.takeResponseBodyAsStream", takeParams).get("stream");
+        } catch (RuntimeException e) {
+            logger.debug("Response body of {} not available: {}", DevToolsSupport.get(params, "request.url"), e.getMessage());
+            continueRequest(devTools, requestId);
+            return;
+        }
+        String networkId = String.valueOf(params.get("networkId"));
+        try {
+            readStream(devTools, stream, target);
+            // Registered before the response is released, as loadingFinished may follow immediately
+            bodyFiles.put(networkId, target);
+            Map<String, Object> fulfill = new HashMap<>();
+            fulfill.put("requestId", requestId);
+            fulfill.put("responseCode", params.get("responseStatusCode"));
+            fulfill.put("responseHeaders", decodedBodyHeaders(params.get("responseHeaders")));
+            fulfill.put("body", Base64.getEncoder().encodeToString(Files.readAllBytes(target)));
+            DevToolsSupport.send(devTools, "Fetch.fulfillRequest", fulfill);
+        } catch (IOException | RuntimeException e) {
+            bodyFiles.remove(networkId);
+            logger.warn("Could not record response body of {}: {}", DevToolsSupport.get(params, "request.url"), e.toString());
+            Map<String, Object> fail = new HashMap<>();
+            fail.put("requestId", requestId);
+            fail.put("errorReason", "Failed");
+            DevToolsSupport.send(devTools, "Fetch.failRequest", fail);
+        }
+    }
+
+    /**
+     * File to stream the body to, or null when the response has no body worth recording
+     */
+    private synchronized Path bodyTarget(Map<String, Object> params) {
+        Object status = params.get("responseStatusCode");
+        if (bodiesDir == null || params.get("responseErrorReason") != null || !(status instanceof Number)) {
+            return null;
+        }
+        int code = ((Number) status).intValue();
+        if ((code >= 300 && code < 400) || code == 204 || "HEAD".equals(DevToolsSupport.get(params, "request.method"))) {
+            return null;
+        }
+        Object headers = params.get("responseHeaders");
+        if (headers instanceof List) {
+            for (Object header : (List<?>) headers) {
+                Map<String, Object> nameValue = map(header);
+                if ("content-length".equalsIgnoreCase(String.valueOf(nameValue.get("name")))) {
+                    try {
+                        if (Long.parseLong(String.valueOf(nameValue.get("value")).trim()) > MAX_BODY_BYTES) {
+                            return null;
+                        }
+                    } catch (NumberFormatException e) {
+                        // Unknown length: record it
+                    }
+                }
+            }
+        }
+        return bodiesDir.resolve(String.valueOf(params.get("networkId")).replaceAll("[^A-Za-z0-9._-]", "_"));
+    }
+
+    private static void readStream(DevTools devTools, String handle, Path target) throws IOException {
+        Map<String, Object> readParams = new HashMap<>();
+        readParams.put("handle", handle);
+        readParams.put("size", READ_CHUNK_BYTES);
+        try (OutputStream out = Files.newOutputStream(target)) {
+            while (true) {
+                Map<String, Object> chunk = DevToolsSupport.call(devTools, "IO.read", readParams);
+                String data = String.valueOf(chunk.getOrDefault("data", ""));
+                out.write(Boolean.TRUE.equals(chunk.get("base64Encoded"))
+                    ? Base64.getDecoder().decode(data) : data.getBytes(StandardCharsets.UTF_8));
+                if (Boolean.TRUE.equals(chunk.get("eof"))) {
+                    break;
+                }
+            }
+        } finally {
+            Map<String, Object> closeParams = new HashMap<>();
+            closeParams.put("handle", handle);
+            try {
+                DevToolsSupport.send(devTools, "IO.close", closeParams);
+            } catch (RuntimeException e) {
+                logger.debug("Could not close stream {}: {}", handle, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Response headers without the framing headers, which no longer describe the decoded body being fulfilled
+     */
+    private static List<Map<String, Object>> decodedBodyHeaders(Object headers) {
+        List<Map<String, Object>> kept = new ArrayList<>();
+        if (headers instanceof List) {
+            for (Object header : (List<?>) headers) {
+                String name = String.valueOf(map(header).get("name")).toLowerCase(Locale.ROOT);
+                if (!name.equals("content-encoding") && !name.equals("content-length") && !name.equals("transfer-encoding")) {
+                    kept.add(map(header));
+                }
+            }
+        }
+        return kept;
+    }
+
+    private static void continueRequest(DevTools devTools, String requestId) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("requestId", requestId);
+        DevToolsSupport.send(devTools, "Fetch.continueRequest", params);
+    }
+
+    private void discard() {
+        if (entries != null) {
+            try {
+                entries.close();
+            } catch (IOException e) {
+                logger.debug("Could not close HAR entries of {}: {}", testName, e.getMessage());
+            }
+            entries = null;
+        }
+        if (entriesFile != null) {
+            try {
+                Files.deleteIfExists(entriesFile);
+            } catch (IOException e) {
+                logger.debug("Could not delete {}: {}", entriesFile, e.getMessage());
+            }
+            entriesFile = null;
+        }
+    }
+
+    private void requestWillBeSent(Map<String, Object> params) {
+        String requestId = (String) params.get("requestId");
+        PendingRequest previous = pending.get(requestId);
+        Object redirectResponse = params.get("redirectResponse");
+        if (previous != null && redirectResponse != null) {
+            // Same requestId is reused for the redirect target; the redirect itself becomes an entry
+            previous.response = map(redirectResponse);
+            previous.redirectUrl = (String) DevToolsSupport.get(params, "request.url");
+            pending.remove(requestId);
+            write(requestId, previous, toDouble(params.get("timestamp")), 0, null);
+        }
+        PendingRequest request = new PendingRequest();
+        request.request = map(params.get("request"));
+        request.timestamp = toDouble(params.get("timestamp"));
+        request.wallTime = toDouble(params.get("wallTime"));
+        request.resourceType = (String) params.get("type");
+        request.initiator = map(params.get("initiator"));
+        pending.put(requestId, request);
+    }
+
+    private void withPending(Map<String, Object> params, Consumer<PendingRequest> update) {
+        PendingRequest request = pending.get((String) params.get("requestId"));
+        if (request != null) {
+            update.accept(request);
+        }
+    }
+
+    private void complete(String requestId, double timestamp, long encodedBytes, String error) {
+        PendingRequest request = pending.remove(requestId);
+        if (request != null) {
+            write(requestId, request, timestamp, encodedBytes, error);
+        }
+    }
+
+    private void write(String requestId, PendingRequest request, double finishedTimestamp, long encodedBytes, String error) {
+        Map<String, Object> entry = request.toEntry(finishedTimestamp, encodedBytes, error);
+        String url = (String) request.request.get("url");
+        Path body = error == null && request.redirectUrl.isEmpty() ? bodyFiles.remove(requestId) : null;
+        synchronized (this) {
+            // Requests finishing outside a test (before start or after finish) belong to no HAR
+            if (entries == null) {
+                return;
+            }
+            HarSummary.getInstance().record(testName, url, ((Number) entry.get("time")).doubleValue(), encodedBytes);
+            if (body != null) {
+                Map<String, Object> content = map(map(entry.get("response")).get("content"));
+                content.put("_file", dir.relativize(body).toString().replace('\\', '/'));
+            }
+            try {
+                if (entryCount++ > 0) {
+                    entries.write(",\n");
+                }
+                entries.write(toJson(entry));
+            } catch (IOException e) {
+                logger.debug("Could not append HAR entry for {}: {}", url, e.getMessage());
+            }
+        }
+    }
+
+    private String toJson(Object value) {
+        StringBuilder text = new StringBuilder();
+        json.newOutput(text).setPrettyPrint(false).write(value);
+        return text.toString();
+    }
+
+    /**
+     * A request between Network.requestWillBeSent and loadingFinished/loadingFailed
+     */
+    private static final class PendingRequest {
+        private Map<String, Object> request = Map.of();
+        private Map<String, Object> response = Map.of();
+        private Map<String, Object> initiator = Map.of();
+        private String resourceType;
+        private String redirectUrl = "";
+        private double timestamp;
+        private double wallTime;
+        private long dataLength;
+
+        Map<String, Object> toEntry(double finishedTimestamp, long encodedBytes, String error) {
+            Map<String, Object> timings = timings(finishedTimestamp);
+            double time = 0;
+            for (Map.Entry<String, Object> phase : timings.entrySet()) {
+                // ssl is already part of connect
+                if (!phase.getKey().equals("ssl")) {
+                    time += Math.max(0, ((Number) phase.getValue()).doubleValue());
+                }
+            }
+            String httpVersion = String.valueOf(response.getOrDefault("protocol", ""));
+
+            Map<String, Object> harRequest = new LinkedHashMap<>();
+            harRequest.put("method", request.getOrDefault("method", "GET"));
+            harRequest.put("url", request.get("url"));
+            harRequest.put("httpVersion", httpVersion);
+            harRequest.put("cookies", List.of());
+            harRequest.put("headers", headers(request.get("headers")));
+            harRequest.put("queryString", List.of());
+            harRequest.put("headersSize", -1);
+            harRequest.put("bodySize", request.get("postData") instanceof String ? ((String) request.get("postData")).length() : 0);
+
+            Map<String, Object> content = new LinkedHashMap<>();
+            content.put("size", dataLength);
+            content.put("mimeType", response.getOrDefault("mimeType", ""));
+
+            Map<String, Object> harResponse = new LinkedHashMap<>();
+            harResponse.put("status", toLong(response.get("status")));
+            harResponse.put("statusText", response.getOrDefault("statusText", ""));
+            harResponse.put("httpVersion", httpVersion);
+            harResponse.put("cookies", List.of());
+            harResponse.put("headers", headers(response.get("headers")));
+            harResponse.put("content", content);
+            harResponse.put("redirectURL", redirectUrl);
+            harResponse.put("headersSize", -1);
+            harResponse.put("bodySize", encodedBytes);
+            harResponse.put("_transferSize", encodedBytes);
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("pageref", "page_1");
+            entry.put("startedDateTime", Instant.ofEpochMilli((long) (wallTime * 1000)).toString());
+            entry.put("time", time);
+            entry.put("request", harRequest);
+            entry.put("response", harResponse);
+            entry.put("cache", Map.of());
+            entry.put("timings", timings);
+            if (response.get("remoteIPAddress") != null) {
+                entry.put("serverIPAddress", response.get("remoteIPAddress"));
+            }
+            entry.put("_resourceType", resourceType);
+            entry.put("_initiator", initiator.get("url") != null
+                ? initiator.get("type") + " " + initiator.get("url") : initiator.get("type"));
+            if (error != null) {
+                entry.put("_error", error);
+            }
+            return entry;
+        }
+
+        /**
+         * HAR timing phases (ms) from the CDP ResourceTiming; -1 marks phases that did not apply
+         */
+        private Map<String, Object> timings(double finishedTimestamp) {
+            Map<String, Object> timings = new LinkedHashMap<>();
+            Map<String, Object> timing = map(response.get("timing"));
+            double total = Math.max(0, (finishedTimestamp - timestamp) * 1000);
+            if (timing.isEmpty()) {
+                // Served from cache or a data: URL, or failed before a response
+                timings.put("blocked", -1);
+                timings.put("dns", -1);
+                timings.put("connect", -1);
+                timings.put("send", 0);
+                timings.put("wait", total);
+                timings.put("receive", 0);
+                timings.put("ssl", -1);
+                return timings;
+            }
+            double requestTime = toDouble(timing.get("requestTime")) * 1000;
+            double dnsStart = toDouble(timing.get("dnsStart"));
+            double connectStart = toDouble(timing.get("connectStart"));
+            double sslStart = toDouble(timing.get("sslStart"));
+            double sendStart = toDouble(timing.get("sendStart"));
+            double sendEnd = toDouble(timing.get("sendEnd"));
+            double headersEnd = toDouble(timing.get("receiveHeadersEnd"));
+            double firstPhase = dnsStart >= 0 ? dnsStart : connectStart >= 0 ? connectStart : sendStart;
+            timings.put("blocked", Math.max(0, requestTime - timestamp * 1000) + Math.max(0, firstPhase));
+            timings.put("dns", dnsStart >= 0 ? toDouble(timing.get("dnsEnd")) - dnsStart : -1);
+            timings.put("connect", connectStart >= 0 ? toDouble(timing.get("connectEnd")) - connectStart : -1);
+            timings.put("send", Math.max(0, sendEnd - sendStart));
+            timings.put("wait", Math.max(0, headersEnd - sendEnd));
+            timings.put("receive", Math.max(0, finishedTimestamp * 1000 - requestTime - headersEnd));
+            timings.put("ssl", sslStart >= 0 ? toDouble(timing.get("sslEnd")) - sslStart : -1);
+            return timings;
+        }
+    }
+
+    private static List<Map<String, Object>> headers(Object headers) {
+        List<Map<String, Object>> list = new ArrayList<>();
+        map(headers).forEach((name, value) -> {
+            Map<String, Object> header = new LinkedHashMap<>();
+            header.put("name", name);
+            header.put("value", String.valueOf(value));
+            list.add(header);
+        });
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : Map.of();
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : -1;
+    }
+}
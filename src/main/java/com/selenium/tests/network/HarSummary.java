@@ -0,0 +1,82 @@
+package com.selenium.tests.network;
+
+import com.selenium.tests.config.FrameworkConfig;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Slowest and heaviest requests seen by {@link HarRecorder} across the whole run
+ * Only the top entries are kept, so memory does not grow with the number of requests.
+ *
+ *   network.har.topN  requests listed per category (default 20)
+ */
+public final class HarSummary {
+    private static final HarSummary INSTANCE = new HarSummary();
+
+    private final int topN = FrameworkConfig.getInt("network.har.topN", 20);
+    private final PriorityQueue<Request> slowest = new PriorityQueue<>(Comparator.comparingDouble(r -> r.timeMillis));
+    private final PriorityQueue<Request> heaviest = new PriorityQueue<>(Comparator.comparingLong(r -> r.bytes));
+    private long requests;
+
+    private HarSummary() {
+    }
+
+    public static HarSummary getInstance() {
+        return INSTANCE;
+    }
+
+    synchronized void record(String test, String url, double timeMillis, long bytes) {
+        requests++;
+        Request request = new Request(test, url, timeMillis, bytes);
+        offer(slowest, request, Comparator.comparingDouble(r -> r.timeMillis));
+        offer(heaviest, request, Comparator.comparingLong(r -> r.bytes));
+    }
+
+    private void offer(PriorityQueue<Request> top, Request request, Comparator<Request> order) {
+        if (top.size() < topN) {
+            top.add(request);
+        } else if (order.compare(request, top.peek()) > 0) {
+            top.poll();
+            top.add(request);
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return requests == 0;
+    }
+
+    public synchronized String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%d requests recorded%n%nSlowest requests%n", requests));
+        appendTable(summary, slowest, Comparator.comparingDouble((Request r) -> r.timeMillis).reversed());
+        summary.append(String.format("%nHeaviest requests%n"));
+        appendTable(summary, heaviest, Comparator.comparingLong((Request r) -> r.bytes).reversed());
+        return summary.toString();
+    }
+
+    private static void appendTable(StringBuilder summary, PriorityQueue<Request> top, Comparator<Request> order) {
+        List<Request> sorted = new ArrayList<>(top);
+        sorted.sort(order);
+        summary.append(String.format("%10s %12s  %-40s %s%n", "Time (ms)", "Bytes", "Test", "URL"));
+        for (Request request : sorted) {
+            summary.append(String.format("%10.0f %12d  %-40s %s%n", request.timeMillis, request.bytes, request.test, request.url));
+        }
+    }
+
+    private static final class Request {
+        private final String test;
+        private final String url;
+        private final double timeMillis;
+        private final long bytes;
+
+        Request(String test, String url, double timeMillis, long bytes) {
+            this.test = test;
+            this.url = url;
+            this.timeMillis = timeMillis;
+            this.bytes = bytes;
+        }
+    }
+}
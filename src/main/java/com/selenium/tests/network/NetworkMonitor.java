@@ -0,0 +1,120 @@
+package com.selenium.tests.network;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-browser network counters maintained by {@link NetworkPolicy}
+ * BaseTest resets the counters when a test leases the browser and attaches them to the test result.
+ */
+public class NetworkMonitor {
+    private static final Map<WebDriver, NetworkMonitor> MONITORS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final NetworkPolicy policy;
+    private final Map<String, String> urlsByRequestId = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder transferredBytes = new LongAdder();
+    private final LongAdder blockedRequests = new LongAdder();
+    private final LongAdder avoidedBytes = new LongAdder();
+
+    NetworkMonitor(NetworkPolicy policy) {
+        this.policy = policy;
+    }
+
+    static void register(WebDriver driver, NetworkMonitor monitor) {
+        MONITORS.put(driver, monitor);
+    }
+
+    /**
+     * Returns the monitor of a browser, looking through decorated (e.g. instrumented) drivers
+     */
+    public static Optional<NetworkMonitor> of(WebDriver driver) {
+        NetworkMonitor monitor = MONITORS.get(driver);
+        if (monitor == null && driver instanceof WrapsDriver) {
+            monitor = MONITORS.get(((WrapsDriver) driver).getWrappedDriver());
+        }
+        return Optional.ofNullable(monitor);
+    }
+
+    public void reset() {
+        urlsByRequestId.clear();
+        requests.reset();
+        transferredBytes.reset();
+        blockedRequests.reset();
+        avoidedBytes.reset();
+    }
+
+    void requestStarted(String requestId, String url) {
+        requests.increment();
+        urlsByRequestId.put(requestId, url);
+    }
+
+    void requestFinished(String requestId, long encodedBytes) {
+        String url = urlsByRequestId.remove(requestId);
+        transferredBytes.add(encodedBytes);
+        if (url != null && policy.getMode() == NetworkPolicy.Mode.OBSERVE && policy.wouldBlock(url)) {
+            ResourceSizeLedger.getInstance().record(url, encodedBytes);
+            avoidedBytes.add(encodedBytes);
+            blockedRequests.increment();
+        }
+    }
+
+    void requestFailed(String requestId) {
+        urlsByRequestId.remove(requestId);
+    }
+
+    String urlOf(String requestId) {
+        return urlsByRequestId.get(requestId);
+    }
+
+    void requestBlocked(String url) {
+        blockedRequests.increment();
+        avoidedBytes.add(ResourceSizeLedger.getInstance().estimate(url));
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getTransferredBytes() {
+        return transferredBytes.sum();
+    }
+
+    /**
+     * Requests blocked by the policy (in observe mode: requests that would have been blocked)
+     */
+    public long getBlockedRequests() {
+        return blockedRequests.sum();
+    }
+
+    /**
+     * Bytes not downloaded thanks to the policy; in block mode estimated from {@link ResourceSizeLedger}
+     */
+    public long getAvoidedBytes() {
+        return avoidedBytes.sum();
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("mode", policy.getMode().name().toLowerCase());
+        map.put("requests", getRequests());
+        map.put("transferredBytes", getTransferredBytes());
+        map.put("blockedRequests", getBlockedRequests());
+        map.put("avoidedBytes", getAvoidedBytes());
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests=%d, transferred=%d B, blocked=%d, avoided~%d B (%s)",
+            getRequests(), getTransferredBytes(), getBlockedRequests(), getAvoidedBytes(), policy.getMode());
+    }
+}
@@ -0,0 +1,208 @@
+package com.selenium.tests.network;
+
+import com.selenium.tests.config.FrameworkConfig;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Suite-wide network policy applied to every browser through the DevTools protocol
+ * Blocks third-party and heavy assets (analytics, trackers, web fonts, video) that no assertion needs.
+ *
+ *   network.policy           off, observe or block (default off)
+ *                            observe blocks nothing but records what would have been blocked and how large it was
+ *   network.block            comma-separated URL patterns to block (default: common analytics, trackers, fonts, video)
+ *   network.allow            comma-separated URL patterns that are never blocked, even if they match network.block
+ *   network.cannedResponses  answer blocked requests with an empty response of the right type instead of failing them
+ *
+ * Patterns follow the Fetch domain's syntax ({@link UrlPattern}). Blocklists of '*'-only patterns, such as the
+ * default one, use the cheap Network.setBlockedURLs. Allowlists, canned responses and user-supplied patterns with
+ * '?' or escapes need request interception, which is limited to URLs matching the blocklist so other traffic is
+ * never paused.
+ */
+public class NetworkPolicy {
+    private static final Logger logger = LogManager.getLogger(NetworkPolicy.class);
+
+    public static final String DEFAULT_BLOCKLIST = String.join(",",
+        "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*", "*googlesyndication.com*",
+        "*facebook.net*", "*connect.facebook.com*", "*hotjar.com*", "*clarity.ms*", "*segment.io*",
+        "*fonts.googleapis.com*", "*fonts.gstatic.com*",
+        "*.woff*", "*.ttf*", "*.mp4*", "*.webm*");
+
+    private static final String TRANSPARENT_GIF = "R0lGODlhAQABAIAAAAAAAP///yH5BAEAAAAALAAAAAABAAEAAAIBRAA7";
+
+    public enum Mode {
+        OFF,
+        OBSERVE,
+        BLOCK
+    }
+
+    private static NetworkPolicy instance;
+
+    private final Mode mode;
+    private final List<UrlPattern> blocklist;
+    private final List<UrlPattern> allowlist;
+    private final boolean cannedResponses;
+
+    public NetworkPolicy(Mode mode, List<UrlPattern> blocklist, List<UrlPattern> allowlist, boolean cannedResponses) {
+        this.mode = mode;
+        this.blocklist = List.copyOf(blocklist);
+        this.allowlist = List.copyOf(allowlist);
+        this.cannedResponses = cannedResponses;
+    }
+
+    public static synchronized NetworkPolicy getInstance() {
+        if (instance == null) {
+            String mode = FrameworkConfig.getString("network.policy", "off").toUpperCase(Locale.ROOT);
+            instance = new NetworkPolicy(
+                Mode.valueOf(mode),
+                UrlPattern.parseList(FrameworkConfig.getString("network.block", DEFAULT_BLOCKLIST)),
+                UrlPattern.parseList(FrameworkConfig.getString("network.allow", "")),
+                FrameworkConfig.getBoolean("network.cannedResponses", false));
+        }
+        return instance;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Whether the policy pauses requests through the Fetch domain (block mode with an allowlist, canned responses
+     * or patterns that Network.setBlockedURLs cannot express)
+     */
+    public boolean interceptsRequests() {
+        return mode == Mode.BLOCK && (!allowlist.isEmpty() || cannedResponses || !blocklist.stream().allMatch(UrlPattern::isStarOnly));
+    }
+
+    /**
+     * Whether a request to the URL is blocked (or, in observe mode, would be)
+     */
+    public boolean wouldBlock(String url) {
+        return UrlPattern.anyMatches(blocklist, url) && !UrlPattern.anyMatches(allowlist, url);
+    }
+
+    /**
+     * Installs the policy on a freshly started browser
+     */
+    public void apply(WebDriver driver) {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        Optional<DevTools> maybeDevTools = DevToolsSupport.open(driver);
+        if (maybeDevTools.isEmpty()) {
+            logger.warn("Network policy '{}' ignored: driver does not support DevTools", mode);
+            return;
+        }
+        DevTools devTools = maybeDevTools.get();
+        NetworkMonitor monitor = new NetworkMonitor(this);
+        NetworkMonitor.register(driver, monitor);
+
+        devTools.addListener(DevToolsSupport.event("Network.requestWillBeSent"), params ->
+            monitor.requestStarted((String) params.get("requestId"), (String) DevToolsSupport.get(params, "request.url")));
+        devTools.addListener(DevToolsSupport.event("Network.loadingFinished"), params ->
+            monitor.requestFinished((String) params.get("requestId"), toLong(params.get("encodedDataLength"))));
+        DevToolsSupport.send(devTools, "Network.enable", new HashMap<>());
+
+        if (mode == Mode.OBSERVE) {
+            devTools.addListener(DevToolsSupport.event("Network.loadingFailed"), params ->
+                monitor.requestFailed((String) params.get("requestId")));
+        } else if (!interceptsRequests()) {
+            installBlockedUrls(devTools, monitor);
+        } else {
+            installInterception(devTools, monitor);
+        }
+        logger.info("Network policy '{}' installed ({} block patterns, {} allow patterns, canned responses: {})",
+            mode, blocklist.size(), allowlist.size(), cannedResponses);
+    }
+
+    private void installBlockedUrls(DevTools devTools, NetworkMonitor monitor) {
+        devTools.addListener(DevToolsSupport.event("Network.loadingFailed"), params -> {
+            String requestId = (String) params.get("requestId");
+            String url = monitor.urlOf(requestId);
+            if (params.get("blockedReason") != null && url != null) {
+                monitor.requestBlocked(url);
+            }
+            monitor.requestFailed(requestId);
+        });
+        Map<String, Object> params = new HashMap<>();
+        params.put("urls", blocklist.stream().map(UrlPattern::getGlob).collect(Collectors.toList()));
+        DevToolsSupport.send(devTools, "Network.setBlockedURLs", params);
+    }
+
+    private void installInterception(DevTools devTools, NetworkMonitor monitor) {
+        devTools.addListener(DevToolsSupport.event("Network.loadingFailed"), params ->
+            monitor.requestFailed((String) params.get("requestId")));
+        devTools.addListener(DevToolsSupport.event("Fetch.requestPaused"), params -> {
+            String requestId = (String) params.get("requestId");
+            String url = (String) DevToolsSupport.get(params, "request.url");
+            Map<String, Object> reply = new HashMap<>();
+            reply.put("requestId", requestId);
+            if (url == null || UrlPattern.anyMatches(allowlist, url)) {
+                DevToolsSupport.send(devTools, "Fetch.continueRequest", reply);
+                return;
+            }
+            monitor.requestBlocked(url);
+            if (cannedResponses) {
+                reply.putAll(cannedResponse((String) params.get("resourceType")));
+                DevToolsSupport.send(devTools, "Fetch.fulfillRequest", reply);
+            } else {
+                reply.put("errorReason", "BlockedByClient");
+                DevToolsSupport.send(devTools, "Fetch.failRequest", reply);
+            }
+        });
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (UrlPattern pattern : blocklist) {
+            Map<String, Object> requestPattern = new HashMap<>();
+            requestPattern.put("urlPattern", pattern.getGlob());
+            requestPattern.put("requestStage", "Request");
+            patterns.add(requestPattern);
+        }
+        Map<String, Object> params = new HashMap<>();
+        params.put("patterns", patterns);
+        DevToolsSupport.send(devTools, "Fetch.enable", params);
+    }
+
+    /**
+     * Empty but well-formed response for the blocked resource type, so page scripts see a successful load
+     */
+    private static Map<String, Object> cannedResponse(String resourceType) {
+        Map<String, Object> response = new HashMap<>();
+        String contentType;
+        String body = "";
+        int status = 200;
+        switch (resourceType == null ? "" : resourceType) {
+            case "Script":
+                contentType = "application/javascript";
+                break;
+            case "Stylesheet":
+                contentType = "text/css";
+                break;
+            case "Image":
+                contentType = "image/gif";
+                body = TRANSPARENT_GIF;
+                break;
+            default:
+                contentType = "text/plain";
+                status = 204;
+                break;
+        }
+        response.put("responseCode", status);
+        response.put("responseHeaders", List.of(Map.of("name", "Content-Type", "value", contentType)));
+        response.put("body", body);
+        return response;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+}
@@ -0,0 +1,98 @@
+package com.selenium.tests.network;
+
+import com.selenium.tests.config.FrameworkConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the transfer size of resources that the network policy blocks
+ * Sizes are learned in observe mode (-Dnetwork.policy=observe) and used in block mode to estimate
+ * how many bytes were avoided. The ledger survives mvn clean.
+ *
+ *   network.ledger  ledger file (default test-history/network-sizes.properties)
+ */
+public final class ResourceSizeLedger {
+    private static final Logger logger = LogManager.getLogger(ResourceSizeLedger.class);
+    private static final ResourceSizeLedger INSTANCE = new ResourceSizeLedger(
+        Paths.get(FrameworkConfig.getString("network.ledger", "test-history/network-sizes.properties")));
+
+    private final Path file;
+    private final Map<String, Long> sizes = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+
+    private ResourceSizeLedger(Path file) {
+        this.file = file;
+        load();
+    }
+
+    public static ResourceSizeLedger getInstance() {
+        return INSTANCE;
+    }
+
+    public void record(String url, long bytes) {
+        if (bytes > 0) {
+            sizes.put(key(url), bytes);
+            dirty = true;
+        }
+    }
+
+    /**
+     * Returns the last observed size of the resource, or 0 if it has never been observed
+     */
+    public long estimate(String url) {
+        return sizes.getOrDefault(key(url), 0L);
+    }
+
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        Properties properties = new Properties();
+        new TreeMap<>(sizes).forEach((url, bytes) -> properties.setProperty(url, String.valueOf(bytes)));
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                properties.store(writer, "Transfer sizes of blocked resources, learned with -Dnetwork.policy=observe");
+            }
+            dirty = false;
+        } catch (IOException e) {
+            logger.warn("Could not save resource size ledger {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            logger.warn("Could not read resource size ledger {}: {}", file, e.getMessage());
+            return;
+        }
+        for (String url : properties.stringPropertyNames()) {
+            try {
+                sizes.put(url, Long.parseLong(properties.getProperty(url)));
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring invalid ledger entry {}", url);
+            }
+        }
+    }
+
+    private static String key(String url) {
+        int query = url.indexOf('?');
+        return query < 0 ? url : url.substring(0, query);
+    }
+}
@@ -0,0 +1,78 @@
+package com.selenium.tests.network;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * URL pattern in CDP (Fetch.RequestPattern) wildcard syntax: '*' matches any sequence of characters, '?' exactly
+ * one character, and a backslash makes the next character literal; everything else is literal
+ * Example: "*google-analytics.com*", "*.woff*" (also .woff2 and URLs with a query string), "*cdn?.example.com*"
+ */
+public final class UrlPattern {
+    private final String glob;
+    private final Pattern regex;
+
+    public UrlPattern(String glob) {
+        this.glob = glob;
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '\\' && i + 1 < glob.length()) {
+                literal.append(glob.charAt(++i));
+            } else if (c == '*' || c == '?') {
+                appendLiteral(regex, literal);
+                regex.append(c == '*' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        appendLiteral(regex, literal);
+        this.regex = Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static void appendLiteral(StringBuilder regex, StringBuilder literal) {
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    /**
+     * Whether the pattern uses only '*' wildcards, the one syntax Network.setBlockedURLs shares with the Fetch domain
+     */
+    public boolean isStarOnly() {
+        return glob.indexOf('?') < 0 && glob.indexOf('\\') < 0;
+    }
+
+    public boolean matches(String url) {
+        return regex.matcher(url).matches();
+    }
+
+    public String getGlob() {
+        return glob;
+    }
+
+    public static List<UrlPattern> parseList(String commaSeparated) {
+        return List.of(commaSeparated.split(",")).stream()
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .map(UrlPattern::new)
+            .collect(Collectors.toList());
+    }
+
+    public static boolean anyMatches(List<UrlPattern> patterns, String url) {
+        for (UrlPattern pattern : patterns) {
+            if (pattern.matches(url)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return glob;
+    }
+}
@@ -1,31 +1,59 @@
 package com.selenium.tests.pages;
 
+import com.selenium.tests.driver.DriverManager;
+import com.selenium.tests.locators.CachingFieldDecorator;
+import com.selenium.tests.locators.NavigationTracker;
+import com.selenium.tests.locators.PageElementLocatorFactory;
+import com.selenium.tests.metrics.NavigationTimingRecorder;
+import com.selenium.tests.waits.AdaptiveWait;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.time.Duration;
+
 /**
  * Base page object class
  * All page objects should extend this class
+ *
+ * Fields may use the standard @FindBy annotations or @PreferredLocators to declare several
+ * candidate locators, of which the fastest unique match is used. Resolved elements are cached per
+ * page instance and looked up again after navigation or when they have gone stale.
+ *
+ * Synchronization uses the explicit waits below; implicit waits stay at zero so that
+ * lookups for missing elements fail fast.
+ *
+ * Page loads through navigateTo and clickLink record Navigation Timing (see NavigationTimingRecorder).
  */
 public class BasePage {
     protected WebDriver driver;
     protected static final Logger logger = LogManager.getLogger(BasePage.class);
 
+    /**
+     * Creates the page for the WebDriver leased by the current test thread
+     */
+    protected BasePage() {
+        this(DriverManager.getDriver());
+    }
+
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        PageFactory.initElements(driver, this);
+        PageFactory.initElements(new CachingFieldDecorator(new PageElementLocatorFactory(driver)), this);
     }
 
     protected void click(WebElement element) {
-        logger.info("Clicking element: " + element);
+        logger.info("Clicking element: {}", element);
         element.click();
     }
 
     protected void sendKeys(WebElement element, String text) {
-        logger.info("Typing in element: " + text);
+        logger.info("Typing in element: {}", text);
         element.clear();
         element.sendKeys(text);
     }
@@ -35,8 +63,103 @@ public class BasePage {
         return element.getText();
     }
 
+    /**
+     * Loads the URL unless the browser already shows the unmodified page (see NavigationShortCircuit)
+     */
     protected void navigateTo(String url) {
-        logger.info("Navigating to: " + url);
+        if (NavigationShortCircuit.isCurrent(driver, url)) {
+            logger.info("Already on {}, navigation skipped", url);
+            return;
+        }
+        NavigationTimingRecorder recorder = NavigationTimingRecorder.getInstance();
+        recorder.collect(driver);
+        logger.info("Navigating to: {}", url);
         driver.navigate().to(url);
+        NavigationTracker.navigated(driver);
+        NavigationShortCircuit.markLoaded(driver, url);
+        recorder.navigated(driver, getClass().getSimpleName());
+    }
+
+    /**
+     * Clicks a link that loads another page (or route, for client-side routing)
+     * The timing of the new page is recorded under targetPage once the test moves on or ends; waiting for
+     * the new page is left to its page object.
+     */
+    protected void clickLink(WebElement link, String targetPage) {
+        NavigationTimingRecorder recorder = NavigationTimingRecorder.getInstance();
+        recorder.collect(driver);
+        click(link);
+        NavigationTracker.navigated(driver);
+        recorder.navigated(driver, targetPage);
+    }
+
+    /**
+     * Captures visibility, text and attributes of several fields in one JavaScript round trip
+     *
+     * @param fieldNames names of @FindBy / @PreferredLocators WebElement fields of this page
+     */
+    protected ElementSnapshot snapshot(String... fieldNames) {
+        logger.info("Capturing snapshot of {}", (Object) fieldNames);
+        return ElementProbe.probe(driver, this, fieldNames);
+    }
+
+    protected void waitForUrl(String urlFragment) {
+        waitForUrl(urlFragment, AdaptiveWait.DEFAULT_TIMEOUT);
+    }
+
+    protected void waitForUrl(String urlFragment, Duration timeout) {
+        waitFor("waitForUrl", timeout, ExpectedConditions.urlContains(urlFragment));
+    }
+
+    protected WebElement waitForVisible(WebElement element) {
+        return waitForVisible(element, AdaptiveWait.DEFAULT_TIMEOUT);
+    }
+
+    protected WebElement waitForVisible(WebElement element, Duration timeout) {
+        return waitFor("waitForVisible", timeout, ExpectedConditions.visibilityOf(element));
+    }
+
+    protected void waitForText(WebElement element, String text) {
+        waitForText(element, text, AdaptiveWait.DEFAULT_TIMEOUT);
+    }
+
+    protected void waitForText(WebElement element, String text, Duration timeout) {
+        waitFor("waitForText", timeout, ExpectedConditions.textToBePresentInElement(element, text));
+    }
+
+    /**
+     * Waits until an element has been removed from the document
+     * Page-object fields are proxies that look the element up again and so never go stale; pass the element
+     * returned by {@link #unwrap(WebElement)} before the action that replaces it.
+     */
+    protected void waitForStale(WebElement element) {
+        waitForStale(element, AdaptiveWait.DEFAULT_TIMEOUT);
+    }
+
+    protected void waitForStale(WebElement element, Duration timeout) {
+        waitFor("waitForStale", timeout, ExpectedConditions.stalenessOf(unwrap(element)));
+    }
+
+    /**
+     * Resolves a page-object proxy to the element it currently refers to
+     */
+    protected static WebElement unwrap(WebElement element) {
+        return element instanceof WrapsElement ? ((WrapsElement) element).getWrappedElement() : element;
+    }
+
+    protected void waitForDocumentReady() {
+        waitForDocumentReady(AdaptiveWait.DEFAULT_TIMEOUT);
+    }
+
+    protected void waitForDocumentReady(Duration timeout) {
+        waitFor("waitForDocumentReady", timeout, driver -> "complete".equals(
+            ((JavascriptExecutor) driver).executeScript("return document.readyState")));
+    }
+
+    /**
+     * Runs an explicit wait, recording its duration under "PageName.waitName"
+     */
+    protected <T> T waitFor(String waitName, Duration timeout, ExpectedCondition<T> condition) {
+        return AdaptiveWait.until(driver, getClass().getSimpleName() + "." + waitName, timeout, condition);
     }
 }
@@ -0,0 +1,135 @@
+package com.selenium.tests.pages;
+
+import com.selenium.tests.locators.CandidateAnnotations;
+import com.selenium.tests.locators.CandidateBy;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves page-object fields and reads their state inside the browser with one executeScript call
+ * Locators are passed to the script as (strategy, value) pairs and evaluated in the page, so no
+ * findElement/isDisplayed/getText round trips are needed. Candidate locators are tried in the order the
+ * page field uses them (see {@link CandidateBy#getLookupOrder()}), so the probe reads the same element.
+ */
+final class ElementProbe {
+
+    private static final String PROBE_SCRIPT =
+        "var specs = arguments[0], result = {};"
+        + "function find(using, value) {"
+        + "  switch (using) {"
+        + "    case 'css selector': return document.querySelector(value);"
+        + "    case 'id': return document.getElementById(value);"
+        + "    case 'name': return document.getElementsByName(value)[0] || null;"
+        + "    case 'class name': return document.getElementsByClassName(value)[0] || null;"
+        + "    case 'tag name': return document.getElementsByTagName(value)[0] || null;"
+        + "    case 'xpath': return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+        + "    case 'link text': case 'partial link text':"
+        + "      var links = document.getElementsByTagName('a');"
+        + "      for (var i = 0; i < links.length; i++) {"
+        + "        var t = (links[i].innerText || '').trim();"
+        + "        if (using === 'link text' ? t === value : t.indexOf(value) >= 0) { return links[i]; }"
+        + "      }"
+        + "      return null;"
+        + "  }"
+        + "  return null;"
+        + "}"
+        + "function displayed(el) {"
+        + "  if (typeof el.checkVisibility === 'function') {"
+        + "    if (!el.checkVisibility({checkOpacity: true, checkVisibilityCSS: true})) { return false; }"
+        + "  } else {"
+        + "    var s = window.getComputedStyle(el);"
+        + "    if (s.display === 'none' || s.visibility === 'hidden' || s.opacity === '0') { return false; }"
+        + "  }"
+        + "  var r = el.getBoundingClientRect();"
+        + "  return r.width > 0 && r.height > 0;"
+        + "}"
+        + "for (var f in specs) {"
+        + "  var el = null;"
+        + "  for (var j = 0; j < specs[f].length && !el; j++) { el = find(specs[f][j][0], specs[f][j][1]); }"
+        + "  if (!el) { result[f] = {present: false}; continue; }"
+        + "  var attrs = {};"
+        + "  for (var k = 0; k < el.attributes.length; k++) { attrs[el.attributes[k].name] = el.attributes[k].value; }"
+        + "  if ('value' in el && typeof el.value === 'string') { attrs['value'] = el.value; }"
+        + "  result[f] = {present: true, displayed: displayed(el), text: (el.innerText || '').trim(),"
+        + "               tagName: el.tagName.toLowerCase(), attributes: attrs};"
+        + "}"
+        + "return result;";
+
+    private static final Map<String, By> LOCATORS = new ConcurrentHashMap<>();
+
+    private ElementProbe() {
+    }
+
+    static ElementSnapshot probe(WebDriver driver, Object page, String... fieldNames) {
+        Map<String, List<List<String>>> specs = new LinkedHashMap<>();
+        for (String fieldName : fieldNames) {
+            List<List<String>> pairs = new ArrayList<>();
+            By locator = locatorOf(page.getClass(), fieldName);
+            for (By by : locator instanceof CandidateBy ? ((CandidateBy) locator).getLookupOrder() : List.of(locator)) {
+                pairs.add(toSpec(by));
+            }
+            specs.put(fieldName, pairs);
+        }
+
+        Object raw = ((JavascriptExecutor) driver).executeScript(PROBE_SCRIPT, specs);
+        Map<?, ?> result = raw instanceof Map ? (Map<?, ?>) raw : Collections.emptyMap();
+        Map<String, ElementState> states = new LinkedHashMap<>();
+        for (String fieldName : fieldNames) {
+            states.put(fieldName, toState(fieldName, (Map<?, ?>) result.get(fieldName)));
+        }
+        return new ElementSnapshot(states);
+    }
+
+    private static By locatorOf(Class<?> pageClass, String fieldName) {
+        return LOCATORS.computeIfAbsent(pageClass.getName() + "#" + fieldName, key -> {
+            Field field = findField(pageClass, fieldName);
+            if (!WebElement.class.equals(field.getType())) {
+                throw new IllegalArgumentException("Field '" + fieldName + "' of " + pageClass.getSimpleName() + " is not a WebElement");
+            }
+            return new CandidateAnnotations(field).buildBy();
+        });
+    }
+
+    private static Field findField(Class<?> pageClass, String fieldName) {
+        for (Class<?> type = pageClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            try {
+                return type.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException e) {
+                // continue with the superclass
+            }
+        }
+        throw new IllegalArgumentException("No field '" + fieldName + "' in " + pageClass.getSimpleName());
+    }
+
+    private static List<String> toSpec(By by) {
+        if (!(by instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Locator cannot be evaluated in the browser: " + by);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+        return List.of(parameters.using(), String.valueOf(parameters.value()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ElementState toState(String fieldName, Map<?, ?> raw) {
+        if (raw == null || !Boolean.TRUE.equals(raw.get("present"))) {
+            return new ElementState(fieldName, false, false, null, null, Collections.emptyMap());
+        }
+        Map<String, String> attributes = new LinkedHashMap<>();
+        Object rawAttributes = raw.get("attributes");
+        if (rawAttributes instanceof Map) {
+            ((Map<Object, Object>) rawAttributes).forEach((name, value) -> attributes.put(String.valueOf(name), String.valueOf(value)));
+        }
+        return new ElementState(fieldName, true, Boolean.TRUE.equals(raw.get("displayed")),
+            (String) raw.get("text"), (String) raw.get("tagName"), attributes);
+    }
+}
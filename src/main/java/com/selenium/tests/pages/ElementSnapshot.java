@@ -0,0 +1,49 @@
+package com.selenium.tests.pages;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable view of several page-object elements, captured in a single JavaScript round trip
+ * Assertions on a snapshot run locally without further WebDriver calls.
+ */
+public final class ElementSnapshot {
+    private final Map<String, ElementState> states;
+
+    ElementSnapshot(Map<String, ElementState> states) {
+        this.states = Collections.unmodifiableMap(new LinkedHashMap<>(states));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the field was not part of the snapshot
+     */
+    public ElementState get(String field) {
+        ElementState state = states.get(field);
+        if (state == null) {
+            throw new IllegalArgumentException("Field '" + field + "' is not part of this snapshot " + states.keySet());
+        }
+        return state;
+    }
+
+    public boolean isDisplayed(String field) {
+        return get(field).isDisplayed();
+    }
+
+    public String getText(String field) {
+        return get(field).getText();
+    }
+
+    public boolean allDisplayed() {
+        return states.values().stream().allMatch(ElementState::isDisplayed);
+    }
+
+    public Map<String, ElementState> getStates() {
+        return states;
+    }
+
+    @Override
+    public String toString() {
+        return states.values().toString();
+    }
+}
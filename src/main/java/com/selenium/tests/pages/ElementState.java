@@ -0,0 +1,60 @@
+package com.selenium.tests.pages;
+
+import java.util.Map;
+
+/**
+ * Immutable state of a single page-object element captured by {@link BasePage#snapshot(String...)}
+ */
+public final class ElementState {
+    private final String field;
+    private final boolean present;
+    private final boolean displayed;
+    private final String text;
+    private final String tagName;
+    private final Map<String, String> attributes;
+
+    ElementState(String field, boolean present, boolean displayed, String text, String tagName, Map<String, String> attributes) {
+        this.field = field;
+        this.present = present;
+        this.displayed = displayed;
+        this.text = text;
+        this.tagName = tagName;
+        this.attributes = Map.copyOf(attributes);
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    /** Whether any locator of the field matched an element */
+    public boolean isPresent() {
+        return present;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    /** Rendered text of the element (innerText), or null if the element is not present */
+    public String getText() {
+        return text;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    /** All attributes of the element; for form fields "value" holds the current value */
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public String toString() {
+        return field + "{present=" + present + ", displayed=" + displayed + ", text='" + text + "'}";
+    }
+}
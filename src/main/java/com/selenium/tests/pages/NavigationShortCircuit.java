@@ -0,0 +1,89 @@
+package com.selenium.tests.pages;
+
+import com.selenium.tests.config.FrameworkConfig;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lets navigateTo skip loading a page the browser is already showing in its original state
+ *
+ * After each navigateTo the document is marked with the requested URL and starts listening for user
+ * interaction (click, key, input, change, submit). A later navigateTo to the same URL is skipped when the
+ * marker is still there (same document), the URL has not changed and no interaction has happened.
+ * The last URL loaded is also remembered per browser, so the check only costs a round trip when the
+ * requested URL is the one loaded last.
+ *
+ *   navigation.shortCircuit  skip redundant navigations (default true)
+ */
+public final class NavigationShortCircuit {
+    private static final Logger logger = LogManager.getLogger(NavigationShortCircuit.class);
+
+    private static final String MARK_SCRIPT =
+        "window.__frameworkPage = {requested: arguments[0], href: location.href};"
+        + "window.__frameworkPageDirty = false;"
+        + "['click', 'keydown', 'input', 'change', 'submit'].forEach(function (type) {"
+        + "  document.addEventListener(type, function () { window.__frameworkPageDirty = true; }, true);"
+        + "});";
+
+    private static final String CHECK_SCRIPT =
+        "var page = window.__frameworkPage;"
+        + "return !!page && page.requested === arguments[0] && page.href === location.href"
+        + "  && !window.__frameworkPageDirty && document.readyState !== 'loading';";
+
+    private static final boolean ENABLED = FrameworkConfig.getBoolean("navigation.shortCircuit", true);
+    private static final LongAdder SKIPPED = new LongAdder();
+    private static final LongAdder PERFORMED = new LongAdder();
+    private static final Map<WebDriver, String> LOADED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private NavigationShortCircuit() {
+    }
+
+    /**
+     * Whether the browser still shows the unmodified page loaded from the URL
+     */
+    static boolean isCurrent(WebDriver driver, String url) {
+        if (!ENABLED) {
+            return false;
+        }
+        if (!url.equals(LOADED.get(driver))) {
+            PERFORMED.increment();
+            return false;
+        }
+        try {
+            boolean current = Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(CHECK_SCRIPT, url));
+            (current ? SKIPPED : PERFORMED).increment();
+            return current;
+        } catch (RuntimeException e) {
+            logger.debug("Could not check current page: {}", e.getMessage());
+            PERFORMED.increment();
+            return false;
+        }
+    }
+
+    static void markLoaded(WebDriver driver, String url) {
+        if (!ENABLED) {
+            return;
+        }
+        LOADED.put(driver, url);
+        try {
+            ((JavascriptExecutor) driver).executeScript(MARK_SCRIPT, url);
+        } catch (RuntimeException e) {
+            logger.debug("Could not mark page {}: {}", url, e.getMessage());
+        }
+    }
+
+    public static long getSkippedNavigations() {
+        return SKIPPED.sum();
+    }
+
+    public static long getPerformedNavigations() {
+        return PERFORMED.sum();
+    }
+}
@@ -1,6 +1,8 @@
 package com.selenium.tests.pages.prism;
 
+import com.selenium.tests.locators.PreferredLocators;
 import com.selenium.tests.pages.BasePage;
+import com.selenium.tests.pages.ElementSnapshot;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -22,21 +24,39 @@ public class AboutPage extends BasePage {
     @FindBy(xpath = "//h2[contains(text(), 'Smart Operations')]")
     private WebElement smartOperationsSection;
 
-    @FindBy(xpath = "//a[contains(text(), 'Home')]")
+    @PreferredLocators({
+        @FindBy(linkText = "Home"),
+        @FindBy(xpath = "//a[normalize-space() = 'Home']")
+    })
     private WebElement homeLink;
 
-    @FindBy(xpath = "//a[contains(text(), 'Contact')]")
+    @PreferredLocators({
+        @FindBy(linkText = "Contact Us"),
+        @FindBy(xpath = "//a[normalize-space() = 'Contact Us']")
+    })
     private WebElement contactLink;
 
+    public AboutPage() {
+        super();
+    }
+
     public AboutPage(WebDriver driver) {
         super(driver);
     }
 
     public void navigateToAboutPage() {
-        navigateTo("https://prismsoftwaresolutions.com/about");
+        navigateTo(PrismSite.url("/about"));
         logger.info("Navigated to About page");
     }
 
+    /**
+     * Waits until the browser is on the About page and its title is rendered
+     */
+    public void waitUntilLoaded() {
+        waitForUrl("/about");
+        waitForVisible(pageTitle);
+    }
+
     public String getPageTitle() {
         return getText(pageTitle);
     }
@@ -49,6 +69,13 @@ public class AboutPage extends BasePage {
         return getText(visionSection);
     }
 
+    /**
+     * Captures the About page sections (pageTitle, missionSection, visionSection, smartOperationsSection) in one round trip
+     */
+    public ElementSnapshot getSectionsSnapshot() {
+        return snapshot("pageTitle", "missionSection", "visionSection", "smartOperationsSection");
+    }
+
     public boolean isMissionSectionVisible() {
         return missionSection.isDisplayed();
     }
@@ -62,12 +89,12 @@ public class AboutPage extends BasePage {
     }
 
     public void clickHomeLink() {
-        click(homeLink);
+        clickLink(homeLink, "HomePage");
         logger.info("Clicked Home link from About page");
     }
 
     public void clickContactLink() {
-        click(contactLink);
+        clickLink(contactLink, "ContactPage");
         logger.info("Clicked Contact link from About page");
     }
 
@@ -1,6 +1,11 @@
 package com.selenium.tests.pages.prism;
 
+import com.selenium.tests.locators.PreferredLocators;
 import com.selenium.tests.pages.BasePage;
+import com.selenium.tests.pages.ElementSnapshot;
+import com.selenium.tests.waits.AdaptiveWait;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -9,6 +14,26 @@ import org.openqa.selenium.support.FindBy;
  * Page Object for Prism Software Solutions Contact Page
  */
 public class ContactPage extends BasePage {
+    /**
+     * True once the submit button has left the document, the URL has changed, the form fields were
+     * cleared or a status/alert message is shown
+     */
+    private static final String SUBMITTED_SCRIPT =
+        "var button = arguments[0];"
+        + "if (!button.isConnected || location.href !== arguments[1]) return true;"
+        + "var form = button.closest('form') || document;"
+        + "var fields = form.querySelectorAll(\"input[type='email'], textarea\");"
+        + "var cleared = fields.length > 0;"
+        + "for (var i = 0; i < fields.length; i++) { if (fields[i].value) { cleared = false; } }"
+        + "if (cleared) return true;"
+        + "var messages = document.querySelectorAll('[role=alert], [role=status], [aria-live]');"
+        + "for (var j = 0; j < messages.length; j++) {"
+        + "  if (messages[j].offsetParent !== null && messages[j].innerText.trim()) return true;"
+        + "}"
+        + "return false;";
+
+    private WebElement submittedButton;
+    private String submittedFromUrl;
 
     @FindBy(xpath = "//h1[contains(text(), 'Contact Us')]")
     private WebElement pageTitle;
@@ -16,30 +41,45 @@ public class ContactPage extends BasePage {
     @FindBy(xpath = "//h2[contains(text(), \"Let's Connect\")]")
     private WebElement connectSection;
 
-    @FindBy(xpath = "//input[@placeholder]")
+    @FindBy(css = "input[placeholder]")
     private WebElement nameInput;
 
-    @FindBy(xpath = "//input[@type='email']")
+    @FindBy(css = "input[type='email']")
     private WebElement emailInput;
 
-    @FindBy(xpath = "//textarea")
+    @FindBy(css = "textarea")
     private WebElement messageInput;
 
     @FindBy(xpath = "//button[contains(., 'Submit')]")
     private WebElement submitButton;
 
-    @FindBy(xpath = "//a[contains(text(), 'Home')]")
+    @PreferredLocators({
+        @FindBy(linkText = "Home"),
+        @FindBy(xpath = "//a[normalize-space() = 'Home']")
+    })
     private WebElement homeLink;
 
+    public ContactPage() {
+        super();
+    }
+
     public ContactPage(WebDriver driver) {
         super(driver);
     }
 
     public void navigateToContactPage() {
-        navigateTo("https://prismsoftwaresolutions.com/contact");
+        navigateTo(PrismSite.url("/contact"));
         logger.info("Navigated to Contact page");
     }
 
+    /**
+     * Waits until the browser is on the Contact page and its title is rendered
+     */
+    public void waitUntilLoaded() {
+        waitForUrl("/contact");
+        waitForVisible(pageTitle);
+    }
+
     public String getPageTitle() {
         return getText(pageTitle);
     }
@@ -50,21 +90,23 @@ public class ContactPage extends BasePage {
 
     public void enterName(String name) {
         sendKeys(nameInput, name);
-        logger.info("Entered name: " + name);
+        logger.info("Entered name: {}", name);
     }
 
     public void enterEmail(String email) {
         sendKeys(emailInput, email);
-        logger.info("Entered email: " + email);
+        logger.info("Entered email: {}", email);
     }
 
     public void enterMessage(String message) {
         sendKeys(messageInput, message);
-        logger.info("Entered message: " + message);
+        logger.info("Entered message: {}", message);
     }
 
     public void clickSubmitButton() {
-        click(submitButton);
+        submittedButton = unwrap(submitButton);
+        submittedFromUrl = driver.getCurrentUrl();
+        click(submittedButton);
         logger.info("Clicked Submit button");
     }
 
@@ -73,14 +115,38 @@ public class ContactPage extends BasePage {
         enterEmail(email);
         enterMessage(message);
         clickSubmitButton();
-        logger.info("Contact form submitted with name: " + name);
+        logger.info("Contact form submitted with name: {}", name);
+    }
+
+    /**
+     * Waits until the page reacts to the submit click: the page was replaced or left, the form was reset,
+     * or a status message appeared
+     */
+    public void waitForSubmission() {
+        if (submittedButton == null) {
+            throw new IllegalStateException("The contact form has not been submitted");
+        }
+        waitFor("waitForSubmission", AdaptiveWait.DEFAULT_TIMEOUT, d -> {
+            try {
+                return (Boolean) ((JavascriptExecutor) d).executeScript(SUBMITTED_SCRIPT, submittedButton, submittedFromUrl);
+            } catch (StaleElementReferenceException e) {
+                return true;
+            }
+        });
     }
 
     public void clickHomeLink() {
-        click(homeLink);
+        clickLink(homeLink, "HomePage");
         logger.info("Clicked Home link from Contact page");
     }
 
+    /**
+     * Captures the contact form fields (nameInput, emailInput, messageInput, submitButton) in one round trip
+     */
+    public ElementSnapshot getFormSnapshot() {
+        return snapshot("nameInput", "emailInput", "messageInput", "submitButton");
+    }
+
     public boolean isNameInputDisplayed() {
         return nameInput.isDisplayed();
     }
@@ -1,6 +1,8 @@
 package com.selenium.tests.pages.prism;
 
+import com.selenium.tests.locators.PreferredLocators;
 import com.selenium.tests.pages.BasePage;
+import com.selenium.tests.pages.ElementSnapshot;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -19,31 +21,55 @@ public class HomePage extends BasePage {
     @FindBy(xpath = "//h2[contains(text(), 'Our Latest Products')]")
     private WebElement ourProductsSection;
 
-    @FindBy(xpath = "//a[contains(text(), 'Learn More')]")
+    @PreferredLocators({
+        @FindBy(linkText = "Learn More"),
+        @FindBy(xpath = "//a[normalize-space() = 'Learn More']")
+    })
     private WebElement learnMoreLink;
 
-    @FindBy(xpath = "//a[contains(text(), 'Contact Us')]")
+    @PreferredLocators({
+        @FindBy(linkText = "Contact Us"),
+        @FindBy(xpath = "//a[normalize-space() = 'Contact Us']")
+    })
     private WebElement contactUsLink;
 
     @FindBy(linkText = "About")
     private WebElement aboutLink;
 
-    @FindBy(xpath = "//img[@alt]")
+    @FindBy(css = "img[alt]")
     private WebElement prismLogo;
 
+    public HomePage() {
+        super();
+    }
+
     public HomePage(WebDriver driver) {
         super(driver);
     }
 
     public void navigateToHomePage() {
-        navigateTo("https://prismsoftwaresolutions.com");
+        navigateTo(PrismSite.baseUrl());
         logger.info("Navigated to Prism home page");
     }
 
+    /**
+     * Waits until the home page heading is rendered (after a link click or browser back/forward)
+     */
+    public void waitUntilLoaded() {
+        waitForVisible(mainHeading);
+    }
+
     public String getMainHeading() {
         return getText(mainHeading);
     }
 
+    /**
+     * Captures the home page sections (mainHeading, whyChoosePrismSection, ourProductsSection, prismLogo) in one round trip
+     */
+    public ElementSnapshot getSectionsSnapshot() {
+        return snapshot("mainHeading", "whyChoosePrismSection", "ourProductsSection", "prismLogo");
+    }
+
     public boolean isWhyChoosePrismSectionVisible() {
         return whyChoosePrismSection.isDisplayed();
     }
@@ -53,17 +79,17 @@ public class HomePage extends BasePage {
     }
 
     public void clickLearnMore() {
-        click(learnMoreLink);
+        clickLink(learnMoreLink, "LearnMore");
         logger.info("Clicked Learn More link");
     }
 
     public void clickContactUs() {
-        click(contactUsLink);
+        clickLink(contactUsLink, "ContactPage");
         logger.info("Clicked Contact Us link");
     }
 
     public void clickAboutLink() {
-        click(aboutLink);
+        clickLink(aboutLink, "AboutPage");
         logger.info("Clicked About link");
     }
 
@@ -0,0 +1,28 @@
+package com.selenium.tests.pages.prism;
+
+import com.selenium.tests.config.FrameworkConfig;
+
+/**
+ * Location of the Prism Software Solutions site under test
+ *
+ *   prism.baseUrl  base URL of the site (default: the live site; set by FixtureServerListener
+ *                  when the suite runs against recorded fixtures)
+ */
+public final class PrismSite {
+    public static final String LIVE_URL = "https://prismsoftwaresolutions.com";
+
+    private PrismSite() {
+    }
+
+    public static String baseUrl() {
+        String baseUrl = FrameworkConfig.getString("prism.baseUrl", LIVE_URL);
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    /**
+     * Absolute URL of a path on the site, e.g. url("/about")
+     */
+    public static String url(String path) {
+        return baseUrl() + path;
+    }
+}
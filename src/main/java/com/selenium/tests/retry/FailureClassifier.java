@@ -0,0 +1,84 @@
+package com.selenium.tests.retry;
+
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Tells infrastructure failures (browser or session lost, connection problems, renderer timeouts)
+ * apart from failures of the test itself (assertions, missing elements, explicit wait timeouts)
+ * The whole cause chain is inspected; an AssertionError anywhere makes it a test failure.
+ * Wrappers such as UncheckedIOException count only through their cause, since the framework's own file I/O
+ * throws them too; script timeouts are page or test bugs unless the message names a lost browser.
+ */
+public final class FailureClassifier {
+
+    public enum Kind {
+        INFRASTRUCTURE,
+        TEST
+    }
+
+    private static final List<Class<? extends Throwable>> INFRASTRUCTURE_TYPES = List.of(
+        SessionNotCreatedException.class,
+        NoSuchSessionException.class,
+        UnreachableBrowserException.class,
+        ConnectException.class,
+        SocketException.class,
+        SocketTimeoutException.class,
+        HttpTimeoutException.class);
+
+    private static final List<String> INFRASTRUCTURE_MESSAGES = List.of(
+        "chrome not reachable",
+        "disconnected: not connected to devtools",
+        "session deleted because of page crash",
+        "tab crashed",
+        "timed out receiving message from renderer",
+        "connection reset",
+        "connection refused",
+        "waiting for a free driver");
+
+    private FailureClassifier() {
+    }
+
+    public static Kind classify(Throwable failure) {
+        if (failure == null) {
+            return Kind.TEST;
+        }
+        boolean infrastructure = false;
+        for (Throwable t = failure; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof AssertionError) {
+                return Kind.TEST;
+            }
+            infrastructure |= looksLikeInfrastructure(t);
+        }
+        return infrastructure ? Kind.INFRASTRUCTURE : Kind.TEST;
+    }
+
+    public static boolean isInfrastructure(Throwable failure) {
+        return classify(failure) == Kind.INFRASTRUCTURE;
+    }
+
+    private static boolean looksLikeInfrastructure(Throwable t) {
+        for (Class<? extends Throwable> type : INFRASTRUCTURE_TYPES) {
+            if (type.isInstance(t)) {
+                return true;
+            }
+        }
+        // Explicit waits throw TimeoutException too; only renderer timeouts (matched by message) are infrastructure
+        String message = t.getMessage();
+        if (message == null || !(t instanceof WebDriverException || t instanceof IllegalStateException || t instanceof IOException)) {
+            return false;
+        }
+        String lower = message.toLowerCase(Locale.ROOT);
+        return INFRASTRUCTURE_MESSAGES.stream().anyMatch(lower::contains);
+    }
+}
@@ -0,0 +1,55 @@
+package com.selenium.tests.retry;
+
+import com.selenium.tests.config.FrameworkConfig;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Retries a test method after an infrastructure failure (see {@link FailureClassifier})
+ * Assertion and other test failures are never retried. The failed browser is discarded by BaseTest,
+ * so the retry runs on a fresh driver.
+ *
+ *   retry.maxRetries  retries per test method after infrastructure failures (default 1, 0 disables)
+ */
+public class InfraRetryAnalyzer implements IRetryAnalyzer {
+    private static final Logger logger = LogManager.getLogger(InfraRetryAnalyzer.class);
+
+    private final int maxRetries = FrameworkConfig.getInt("retry.maxRetries", 1);
+    private final List<String> retriedFailures = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public boolean retry(ITestResult result) {
+        Throwable failure = result.getThrowable();
+        if (retriedFailures.size() >= maxRetries || !FailureClassifier.isInfrastructure(failure)) {
+            return false;
+        }
+        retriedFailures.add(failure.getClass().getSimpleName() + ": " + firstLine(failure.getMessage()));
+        logger.warn("Retrying {}.{} after infrastructure failure ({}/{}): {}",
+            result.getTestClass().getRealClass().getSimpleName(), result.getMethod().getMethodName(),
+            retriedFailures.size(), maxRetries, failure.toString());
+        return true;
+    }
+
+    /**
+     * Infrastructure failures that caused a retry, oldest first
+     */
+    public List<String> getRetriedFailures() {
+        synchronized (retriedFailures) {
+            return new ArrayList<>(retriedFailures);
+        }
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+}
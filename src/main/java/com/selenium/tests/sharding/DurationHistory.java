@@ -0,0 +1,164 @@
+package com.selenium.tests.sharding;
+
+import com.selenium.tests.config.FrameworkConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Historical test durations, used to balance shards and schedule long tests first
+ * Durations are smoothed across runs (exponentially weighted, 30% weight for the newest run) and keyed
+ * "fully.qualified.Class#method". The history survives mvn clean. When it does not exist yet,
+ * it is seeded from the previous run's testng-results.xml.
+ *
+ *   history.durations    history file (default test-history/durations.properties)
+ *   history.seedResults  results used to seed an empty history (default target/surefire-reports/testng-results.xml)
+ */
+public final class DurationHistory {
+    private static final Logger logger = LogManager.getLogger(DurationHistory.class);
+    private static final double NEWEST_RUN_WEIGHT = 0.3;
+
+    private static DurationHistory instance;
+
+    private final Path file;
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+    private final Map<String, Long> updated = new ConcurrentHashMap<>();
+
+    public DurationHistory(Path file) {
+        this.file = file;
+    }
+
+    public static synchronized DurationHistory getInstance() {
+        if (instance == null) {
+            instance = new DurationHistory(Paths.get(FrameworkConfig.getString("history.durations", "test-history/durations.properties")));
+            instance.durations.putAll(read(instance.file));
+            if (instance.durations.isEmpty()) {
+                Path results = Paths.get(FrameworkConfig.getString("history.seedResults", "target/surefire-reports/testng-results.xml"));
+                instance.durations.putAll(readTestNgResults(results));
+            }
+            logger.debug("Loaded {} test durations", instance.durations.size());
+        }
+        return instance;
+    }
+
+    public boolean isEmpty() {
+        return durations.isEmpty();
+    }
+
+    public OptionalLong getMillis(String className, String methodName) {
+        Long millis = durations.get(key(className, methodName));
+        return millis == null ? OptionalLong.empty() : OptionalLong.of(millis);
+    }
+
+    /**
+     * Median of all known method durations, used as the estimate for tests without history
+     */
+    public long getMedianMillis(long defaultMillis) {
+        long[] values = durations.values().stream().mapToLong(Long::longValue).sorted().toArray();
+        return values.length == 0 ? defaultMillis : values[values.length / 2];
+    }
+
+    public void record(String className, String methodName, long millis) {
+        String key = key(className, methodName);
+        long smoothed = durations.merge(key, millis,
+            (previous, latest) -> Math.round(previous * (1 - NEWEST_RUN_WEIGHT) + latest * NEWEST_RUN_WEIGHT));
+        updated.put(key, smoothed);
+    }
+
+    /**
+     * Writes the durations recorded by this run, keeping entries written meanwhile by other shards
+     */
+    public synchronized void save() {
+        if (updated.isEmpty()) {
+            return;
+        }
+        Map<String, Long> merged = new TreeMap<>(read(file));
+        merged.putAll(updated);
+        Properties properties = new Properties();
+        merged.forEach((key, millis) -> properties.setProperty(key, String.valueOf(millis)));
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                properties.store(writer, "Smoothed test durations in milliseconds (Class#method)");
+            }
+            updated.clear();
+        } catch (IOException e) {
+            logger.warn("Could not save duration history {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static Map<String, Long> read(Path file) {
+        Map<String, Long> values = new HashMap<>();
+        if (!Files.isRegularFile(file)) {
+            return values;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            logger.warn("Could not read duration history {}: {}", file, e.getMessage());
+            return values;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                values.put(key, Long.parseLong(properties.getProperty(key)));
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring invalid duration entry {}", key);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reads test method durations from a TestNG XML report, ignoring configuration methods
+     */
+    static Map<String, Long> readTestNgResults(Path results) {
+        Map<String, Long> values = new HashMap<>();
+        if (!Files.isRegularFile(results)) {
+            return values;
+        }
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            Document document = factory.newDocumentBuilder().parse(results.toFile());
+            NodeList classes = document.getElementsByTagName("class");
+            for (int i = 0; i < classes.getLength(); i++) {
+                Element testClass = (Element) classes.item(i);
+                NodeList methods = testClass.getElementsByTagName("test-method");
+                for (int j = 0; j < methods.getLength(); j++) {
+                    Element method = (Element) methods.item(j);
+                    if (!"true".equals(method.getAttribute("is-config")) && !method.getAttribute("duration-ms").isEmpty()) {
+                        values.put(key(testClass.getAttribute("name"), method.getAttribute("name")),
+                            Long.parseLong(method.getAttribute("duration-ms")));
+                    }
+                }
+            }
+            logger.info("Seeded duration history with {} tests from {}", values.size(), results);
+        } catch (Exception e) {
+            logger.warn("Could not read TestNG results {}: {}", results, e.getMessage());
+        }
+        return values;
+    }
+
+    private static String key(String className, String methodName) {
+        return className + "#" + methodName;
+    }
+}
@@ -0,0 +1,83 @@
+package com.selenium.tests.sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Splits weighted work items into balanced shards (longest processing time first)
+ * Items are assigned heaviest first to the currently lightest shard, which keeps the longest shard
+ * within 4/3 of the optimum. Ties are broken by name so every node computes the same plan.
+ * The same greedy rule models a thread pool that takes the next queued test whenever a thread is free.
+ */
+public final class ShardPlanner {
+
+    private ShardPlanner() {
+    }
+
+    /**
+     * @param weights item name to estimated duration in milliseconds
+     */
+    public static Plan plan(Map<String, Long> weights, int shardCount) {
+        Plan plan = new Plan(shardCount);
+        List<Map.Entry<String, Long>> items = new ArrayList<>(weights.entrySet());
+        items.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()));
+        for (Map.Entry<String, Long> item : items) {
+            int lightest = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (plan.loads[i] < plan.loads[lightest]) {
+                    lightest = i;
+                }
+            }
+            plan.shards.get(lightest).add(item.getKey());
+            plan.loads[lightest] += item.getValue();
+        }
+        return plan;
+    }
+
+    /**
+     * Predicted wall time when jobs are taken in the given order by whichever worker becomes free first
+     */
+    public static long makespan(List<Long> durations, int workers) {
+        PriorityQueue<Long> freeAt = new PriorityQueue<>();
+        for (int i = 0; i < Math.max(1, workers); i++) {
+            freeAt.add(0L);
+        }
+        long end = 0;
+        for (long duration : durations) {
+            long finish = freeAt.poll() + duration;
+            freeAt.add(finish);
+            end = Math.max(end, finish);
+        }
+        return end;
+    }
+
+    /**
+     * Items and predicted duration of each shard
+     */
+    public static final class Plan {
+        private final List<List<String>> shards = new ArrayList<>();
+        private final long[] loads;
+
+        private Plan(int shardCount) {
+            for (int i = 0; i < shardCount; i++) {
+                shards.add(new ArrayList<>());
+            }
+            loads = new long[shardCount];
+        }
+
+        public int getShardCount() {
+            return loads.length;
+        }
+
+        public List<String> getItems(int shard) {
+            return shards.get(shard);
+        }
+
+        public long getPredictedMillis(int shard) {
+            return loads[shard];
+        }
+    }
+}
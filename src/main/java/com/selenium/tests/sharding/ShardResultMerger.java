@@ -0,0 +1,84 @@
+package com.selenium.tests.sharding;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Merges the testng-results.xml files of several shards into one report
+ * Totals on the root element are summed and the suites of all shards are placed side by side.
+ *
+ * Usage: ShardResultMerger merged.xml shard-0/testng-results.xml shard-1/testng-results.xml ...
+ */
+public final class ShardResultMerger {
+    private static final String[] TOTALS = {"total", "passed", "failed", "skipped", "ignored"};
+
+    private ShardResultMerger() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: ShardResultMerger <merged.xml> <shard results.xml>...");
+            System.exit(2);
+        }
+        Path[] inputs = new Path[args.length - 1];
+        for (int i = 1; i < args.length; i++) {
+            inputs[i - 1] = Paths.get(args[i]);
+        }
+        Document merged = merge(inputs);
+        Path output = Paths.get(args[0]);
+        if (output.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(output.toAbsolutePath().getParent());
+        }
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.transform(new DOMSource(merged), new StreamResult(output.toFile()));
+
+        Element root = merged.getDocumentElement();
+        System.out.printf("Merged %d shards into %s: total=%s passed=%s failed=%s skipped=%s%n", inputs.length, output,
+            root.getAttribute("total"), root.getAttribute("passed"), root.getAttribute("failed"), root.getAttribute("skipped"));
+        if (!"0".equals(root.getAttribute("failed"))) {
+            System.exit(1);
+        }
+    }
+
+    static Document merge(Path... inputs) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        Document merged = factory.newDocumentBuilder().newDocument();
+        Element root = merged.createElement("testng-results");
+        merged.appendChild(root);
+        long[] totals = new long[TOTALS.length];
+        for (Path input : inputs) {
+            Element shardRoot = factory.newDocumentBuilder().parse(input.toFile()).getDocumentElement();
+            for (int i = 0; i < TOTALS.length; i++) {
+                String value = shardRoot.getAttribute(TOTALS[i]);
+                totals[i] += value.isEmpty() ? 0 : Long.parseLong(value);
+            }
+            NodeList children = shardRoot.getChildNodes();
+            for (int i = 0; i < children.getLength(); i++) {
+                Node child = children.item(i);
+                if (child.getNodeType() == Node.ELEMENT_NODE) {
+                    root.appendChild(merged.importNode(child, true));
+                }
+            }
+        }
+        for (int i = 0; i < TOTALS.length; i++) {
+            root.setAttribute(TOTALS[i], String.valueOf(totals[i]));
+        }
+        return merged;
+    }
+}
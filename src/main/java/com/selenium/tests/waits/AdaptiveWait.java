@@ -0,0 +1,84 @@
+package com.selenium.tests.waits;
+
+import com.selenium.tests.config.FrameworkConfig;
+import com.selenium.tests.metrics.WaitStatistics;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+
+/**
+ * Explicit, condition-based wait with adaptive polling
+ * Polls quickly at first so conditions that are already (almost) met return fast, then backs off
+ * to avoid hammering the driver while a slow page is loading. Every wait records how long it took.
+ *
+ *   wait.timeout  default timeout in seconds (default 10)
+ */
+public final class AdaptiveWait {
+    private static final Logger logger = LogManager.getLogger(AdaptiveWait.class);
+
+    public static final Duration DEFAULT_TIMEOUT = FrameworkConfig.getSeconds("wait.timeout", 10);
+
+    private static final long INITIAL_POLL_MILLIS = 20;
+    private static final long MAX_POLL_MILLIS = 250;
+    private static final double BACKOFF_FACTOR = 1.5;
+
+    private AdaptiveWait() {
+    }
+
+    /**
+     * Waits until the condition returns a non-null value other than Boolean.FALSE
+     *
+     * @param driver      driver passed to the condition
+     * @param description name under which the wait time is recorded, e.g. "AboutPage.waitForVisible"
+     * @param timeout     maximum time to wait
+     * @param condition   condition to evaluate; NotFoundException and StaleElementReferenceException count as "not yet"
+     * @return the condition's value
+     * @throws TimeoutException if the condition is not met in time
+     */
+    public static <T> T until(WebDriver driver, String description, Duration timeout, ExpectedCondition<T> condition) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long pollMillis = INITIAL_POLL_MILLIS;
+        RuntimeException lastException = null;
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    record(description, start, true);
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastException = e;
+            }
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                record(description, start, false);
+                throw new TimeoutException("Timed out after " + timeout.toMillis() + " ms waiting for "
+                    + description + ": " + condition, lastException);
+            }
+            sleep(Math.min(pollMillis, remainingMillis));
+            pollMillis = Math.min(MAX_POLL_MILLIS, (long) (pollMillis * BACKOFF_FACTOR));
+        }
+    }
+
+    private static void record(String description, long startNanos, boolean satisfied) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        WaitStatistics.getInstance().record(description, elapsedNanos, satisfied);
+        logger.debug("{} {} after {} ms", description, satisfied ? "satisfied" : "timed out", elapsedNanos / 1_000_000);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting", e);
+        }
+    }
+}
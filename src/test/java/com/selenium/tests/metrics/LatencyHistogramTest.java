@@ -0,0 +1,84 @@
+package com.selenium.tests.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the bucket layout and percentile lookup of {@link LatencyHistogram}
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void smallValuesHaveExactBuckets() {
+        for (int value = 0; value < 16; value++) {
+            Assert.assertEquals(LatencyHistogram.indexOf(value), value);
+            Assert.assertEquals(LatencyHistogram.highestValueOf(value), value);
+        }
+    }
+
+    @Test
+    public void bucketsAreContiguousAndWithinSixPercent() {
+        long lowest = 16;
+        for (int index = 16; lowest < (1L << 40); index++) {
+            long highest = LatencyHistogram.highestValueOf(index);
+            Assert.assertEquals(LatencyHistogram.indexOf(lowest), index, "lowest value of bucket " + index);
+            Assert.assertEquals(LatencyHistogram.indexOf(highest), index, "highest value of bucket " + index);
+            Assert.assertTrue((highest - lowest + 1) / (double) lowest <= 1 / 16.0,
+                "bucket " + index + " spans " + lowest + ".." + highest);
+            lowest = highest + 1;
+        }
+    }
+
+    @Test
+    public void largestValueDoesNotOverflow() {
+        int index = LatencyHistogram.indexOf(Long.MAX_VALUE);
+        Assert.assertEquals(LatencyHistogram.highestValueOf(index), Long.MAX_VALUE);
+    }
+
+    @Test
+    public void percentilesAreWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        Assert.assertEquals(histogram.getCount(), 100);
+        Assert.assertEquals(histogram.getPercentileMillis(50), 50, 50 / 16.0);
+        Assert.assertEquals(histogram.getPercentileMillis(99), 99, 99 / 16.0);
+        Assert.assertEquals(histogram.getPercentileMillis(100), 100.0);
+        Assert.assertEquals(histogram.getPercentileMillis(0), 1, 1 / 16.0);
+        Assert.assertEquals(histogram.getMaxMillis(), 100.0);
+        Assert.assertEquals(histogram.getTotalMillis(), 5050.0);
+    }
+
+    @Test
+    public void percentileNeverExceedsTheMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(1_000_001));
+        Assert.assertEquals(histogram.getPercentileMillis(50), 1000.001);
+    }
+
+    @Test
+    public void emptyHistogramReportsZero() {
+        Assert.assertEquals(new LatencyHistogram().getPercentileMillis(99), 0.0);
+    }
+
+    @Test
+    public void mergedHistogramMatchesOneRecordingEverything() {
+        LatencyHistogram all = new LatencyHistogram();
+        LatencyHistogram even = new LatencyHistogram();
+        LatencyHistogram odd = new LatencyHistogram();
+        for (int millis = 1; millis <= 500; millis++) {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(millis);
+            all.record(nanos);
+            (millis % 2 == 0 ? even : odd).record(nanos);
+        }
+        even.merge(odd);
+        Assert.assertEquals(even.getCount(), all.getCount());
+        Assert.assertEquals(even.getMaxMillis(), all.getMaxMillis());
+        for (double percentile : new double[] {50, 90, 99, 99.9}) {
+            Assert.assertEquals(even.getPercentileMillis(percentile), all.getPercentileMillis(percentile));
+        }
+    }
+}
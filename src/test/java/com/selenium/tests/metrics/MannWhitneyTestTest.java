@@ -0,0 +1,52 @@
+package com.selenium.tests.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the rank test behind the performance budget gate
+ * Expected p-values follow the normal approximation with tie and continuity correction, using an exact erf.
+ */
+public class MannWhitneyTestTest {
+    private static final double TOLERANCE = 1e-6;
+
+    private static final double[] FAST = {10, 12, 13, 15, 16, 18, 19, 21};
+    private static final double[] SLOW = {20, 22, 25, 27, 30, 31, 33, 35};
+
+    @Test
+    public void clearlySlowerSamplesAreSignificant() {
+        // U = 63 of 64, variance 90.67
+        Assert.assertEquals(MannWhitneyTest.pValueGreater(SLOW, FAST), 0.000679688, TOLERANCE);
+    }
+
+    @Test
+    public void fasterSamplesAreNotSignificant() {
+        Assert.assertEquals(MannWhitneyTest.pValueGreater(FAST, SLOW), 0.999530447, TOLERANCE);
+    }
+
+    @Test
+    public void tiesUseAverageRanksAndCorrectTheVariance() {
+        // U = 12, tie-corrected variance 36.41 (45.5 without the correction)
+        double p = MannWhitneyTest.pValueGreater(new double[] {5, 5, 6, 6, 7, 7}, new double[] {5, 6, 6, 7, 8, 8});
+        Assert.assertEquals(p, 0.859311237, TOLERANCE);
+    }
+
+    @Test
+    public void identicalSamplesAreNotSignificant() {
+        // U equals its mean; the continuity correction keeps p above one half
+        double p = MannWhitneyTest.pValueGreater(new double[] {1, 2, 3}, new double[] {1, 2, 3});
+        Assert.assertEquals(p, 0.590261512, TOLERANCE);
+    }
+
+    @Test
+    public void constantSamplesHaveNoVarianceAndPassTheGate() {
+        Assert.assertEquals(MannWhitneyTest.pValueGreater(new double[] {3, 3}, new double[] {3, 3}), 1.0);
+    }
+
+    @Test
+    public void singleOutlierDoesNotDecideTheOutcome() {
+        double[] withOutlier = {10, 12, 13, 15, 16, 18, 19, 10_000};
+        Assert.assertTrue(MannWhitneyTest.pValueGreater(withOutlier, FAST) > 0.05,
+            "One outlier should not make the current samples significantly slower");
+    }
+}
@@ -0,0 +1,90 @@
+package com.selenium.tests.sharding;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for the longest-first shard plan and the worker makespan model of {@link ShardPlanner}
+ */
+public class ShardPlannerTest {
+
+    @Test
+    public void assignsHeaviestItemsToTheLightestShard() {
+        Map<String, Long> weights = new HashMap<>();
+        weights.put("A", 70L);
+        weights.put("B", 50L);
+        weights.put("C", 40L);
+        weights.put("D", 30L);
+        weights.put("E", 10L);
+        ShardPlanner.Plan plan = ShardPlanner.plan(weights, 2);
+
+        Assert.assertEquals(plan.getItems(0), List.of("A", "D"));
+        Assert.assertEquals(plan.getItems(1), List.of("B", "C", "E"));
+        Assert.assertEquals(plan.getPredictedMillis(0), 100);
+        Assert.assertEquals(plan.getPredictedMillis(1), 100);
+    }
+
+    @Test
+    public void everyItemIsPlannedExactlyOnce() {
+        Map<String, Long> weights = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            weights.put("Test" + i, (long) (i * 37 % 101));
+        }
+        ShardPlanner.Plan plan = ShardPlanner.plan(weights, 4);
+
+        List<String> planned = new ArrayList<>();
+        long total = 0;
+        for (int shard = 0; shard < plan.getShardCount(); shard++) {
+            planned.addAll(plan.getItems(shard));
+            total += plan.getPredictedMillis(shard);
+        }
+        Assert.assertEqualsNoOrder(planned.toArray(), weights.keySet().toArray());
+        Assert.assertEquals(total, weights.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    public void planDoesNotDependOnMapOrder() {
+        Map<String, Long> forward = new LinkedHashMap<>();
+        Map<String, Long> backward = new LinkedHashMap<>();
+        String[] names = {"Alpha", "Beta", "Gamma", "Delta", "Epsilon", "Zeta"};
+        for (String name : names) {
+            forward.put(name, 20L);
+        }
+        for (int i = names.length - 1; i >= 0; i--) {
+            backward.put(names[i], 20L);
+        }
+        ShardPlanner.Plan first = ShardPlanner.plan(forward, 3);
+        ShardPlanner.Plan second = ShardPlanner.plan(backward, 3);
+        for (int shard = 0; shard < 3; shard++) {
+            Assert.assertEquals(second.getItems(shard), first.getItems(shard), "shard " + shard);
+        }
+    }
+
+    @Test
+    public void moreShardsThanItemsLeavesShardsEmpty() {
+        ShardPlanner.Plan plan = ShardPlanner.plan(Map.of("Only", 5L), 3);
+        Assert.assertEquals(plan.getItems(0), List.of("Only"));
+        Assert.assertTrue(plan.getItems(1).isEmpty());
+        Assert.assertTrue(plan.getItems(2).isEmpty());
+    }
+
+    @Test
+    public void makespanFollowsTheFirstFreeWorker() {
+        Assert.assertEquals(ShardPlanner.makespan(List.of(10L, 10L, 10L, 10L), 2), 20);
+        // Longest first finishes earlier than shortest first
+        Assert.assertEquals(ShardPlanner.makespan(List.of(1L, 1L, 1L, 1L, 4L), 2), 6);
+        Assert.assertEquals(ShardPlanner.makespan(List.of(4L, 1L, 1L, 1L, 1L), 2), 4);
+    }
+
+    @Test
+    public void makespanTreatsZeroWorkersAsOne() {
+        Assert.assertEquals(ShardPlanner.makespan(List.of(3L, 4L), 0), 7);
+        Assert.assertEquals(ShardPlanner.makespan(List.of(), 4), 0);
+    }
+}
@@ -14,11 +14,11 @@ public class SampleUITest extends BaseTest {
         logger.info("Starting sample navigation test");
         
         // Navigate to a website
-        driver.navigate().to("https://www.example.com");
+        getDriver().navigate().to("https://www.example.com");
         
         // Verify page title
-        String title = driver.getTitle();
-        logger.info("Page title: " + title);
+        String title = getDriver().getTitle();
+        logger.info("Page title: {}", title);
         Assert.assertNotNull(title, "Page title should not be null");
         
         logger.info("Sample navigation test completed successfully");
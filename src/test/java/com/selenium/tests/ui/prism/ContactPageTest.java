@@ -1,6 +1,8 @@
 package com.selenium.tests.ui.prism;
 
 import com.selenium.tests.base.BaseTest;
+import com.selenium.tests.base.SharedPage;
+import com.selenium.tests.pages.ElementSnapshot;
 import com.selenium.tests.pages.prism.ContactPage;
 import com.selenium.tests.pages.prism.HomePage;
 import com.selenium.tests.pages.prism.AboutPage;
@@ -12,31 +14,33 @@ import org.testng.annotations.Test;
  */
 public class ContactPageTest extends BaseTest {
 
+    @SharedPage("contact")
     @Test
     public void testContactPageLoadsSuccessfully() {
         logger.info("Starting: Test Contact Page Loads Successfully");
         
-        ContactPage contactPage = new ContactPage(driver);
+        ContactPage contactPage = new ContactPage();
         contactPage.navigateToContactPage();
         
         // Verify page URL
-        String pageUrl = driver.getCurrentUrl();
-        logger.info("Page URL: " + pageUrl);
+        String pageUrl = getDriver().getCurrentUrl();
+        logger.info("Page URL: {}", pageUrl);
         Assert.assertNotNull(pageUrl, "Page URL should not be null");
         Assert.assertTrue(pageUrl.contains("contact"), "Page URL should contain 'contact'");
         
         logger.info("Test passed: Contact page loaded successfully");
     }
 
+    @SharedPage("contact")
     @Test
     public void testContactPageTitle() {
         logger.info("Starting: Test Contact Page Title");
         
-        ContactPage contactPage = new ContactPage(driver);
+        ContactPage contactPage = new ContactPage();
         contactPage.navigateToContactPage();
         
         String pageTitle = contactPage.getPageTitle();
-        logger.info("Contact page title: " + pageTitle);
+        logger.info("Contact page title: {}", pageTitle);
         Assert.assertNotNull(pageTitle, "Contact page title should not be null");
         Assert.assertTrue(pageTitle.contains("Contact Us"), 
             "Page title should contain 'Contact Us'");
@@ -44,20 +48,22 @@ public class ContactPageTest extends BaseTest {
         logger.info("Test passed: Contact page title verified");
     }
 
+    @SharedPage("contact")
     @Test
     public void testContactFormElementsDisplayed() {
         logger.info("Starting: Test Contact Form Elements Displayed");
         
-        ContactPage contactPage = new ContactPage(driver);
+        ContactPage contactPage = new ContactPage();
         contactPage.navigateToContactPage();
         
-        boolean isNameDisplayed = contactPage.isNameInputDisplayed();
-        boolean isEmailDisplayed = contactPage.isEmailInputDisplayed();
-        boolean isSubmitDisplayed = contactPage.isSubmitButtonDisplayed();
+        ElementSnapshot form = contactPage.getFormSnapshot();
+        boolean isNameDisplayed = form.isDisplayed("nameInput");
+        boolean isEmailDisplayed = form.isDisplayed("emailInput");
+        boolean isSubmitDisplayed = form.isDisplayed("submitButton");
         
-        logger.info("Name input displayed: " + isNameDisplayed);
-        logger.info("Email input displayed: " + isEmailDisplayed);
-        logger.info("Submit button displayed: " + isSubmitDisplayed);
+        logger.info("Name input displayed: {}", isNameDisplayed);
+        logger.info("Email input displayed: {}", isEmailDisplayed);
+        logger.info("Submit button displayed: {}", isSubmitDisplayed);
         
         Assert.assertTrue(isNameDisplayed, "Name input should be displayed");
         Assert.assertTrue(isEmailDisplayed, "Email input should be displayed");
@@ -66,15 +72,16 @@ public class ContactPageTest extends BaseTest {
         logger.info("Test passed: All contact form elements are displayed");
     }
 
+    @SharedPage("contact")
     @Test
     public void testConnectSectionVisible() {
         logger.info("Starting: Test Connect Section Visible");
         
-        ContactPage contactPage = new ContactPage(driver);
+        ContactPage contactPage = new ContactPage();
         contactPage.navigateToContactPage();
         
         boolean isConnectSectionVisible = contactPage.isConnectSectionVisible();
-        logger.info("Connect section visible: " + isConnectSectionVisible);
+        logger.info("Connect section visible: {}", isConnectSectionVisible);
         Assert.assertTrue(isConnectSectionVisible, "Connect section should be visible");
         
         logger.info("Test passed: Connect section is visible");
@@ -84,7 +91,7 @@ public class ContactPageTest extends BaseTest {
     public void testFillContactForm() {
         logger.info("Starting: Test Fill Contact Form");
         
-        ContactPage contactPage = new ContactPage(driver);
+        ContactPage contactPage = new ContactPage();
         contactPage.navigateToContactPage();
         
         String testName = "John Doe";
@@ -103,7 +110,7 @@ public class ContactPageTest extends BaseTest {
     public void testSubmitContactForm() {
         logger.info("Starting: Test Submit Contact Form");
         
-        ContactPage contactPage = new ContactPage(driver);
+        ContactPage contactPage = new ContactPage();
         contactPage.navigateToContactPage();
         
         String testName = "Jane Smith";
@@ -113,7 +120,7 @@ public class ContactPageTest extends BaseTest {
         contactPage.submitContactForm(testName, testEmail, testMessage);
         
         // Wait for form submission
-        driver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(2));
+        contactPage.waitForSubmission();
         
         logger.info("Contact form submitted successfully");
         logger.info("Test passed: Contact form submission completed");
@@ -123,17 +130,15 @@ public class ContactPageTest extends BaseTest {
     public void testNavigateToHomePageFromContact() {
         logger.info("Starting: Test Navigate to Home Page from Contact");
         
-        ContactPage contactPage = new ContactPage(driver);
+        ContactPage contactPage = new ContactPage();
         contactPage.navigateToContactPage();
         
         contactPage.clickHomeLink();
         
-        // Wait for page to load
-        driver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(3));
-        
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage();
+        homePage.waitUntilLoaded();
         String mainHeading = homePage.getMainHeading();
-        logger.info("Home page heading: " + mainHeading);
+        logger.info("Home page heading: {}", mainHeading);
         Assert.assertNotNull(mainHeading, "Should navigate to Home page");
         Assert.assertTrue(mainHeading.contains("Building"), "Should be on home page");
         
@@ -145,19 +150,19 @@ public class ContactPageTest extends BaseTest {
         logger.info("Starting: Test Contact Page Navigation Path");
         
         // Navigate from Home -> About -> Contact
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage();
         homePage.navigateToHomePage();
         
         homePage.clickAboutLink();
-        driver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(3));
         
-        AboutPage aboutPage = new AboutPage(driver);
+        AboutPage aboutPage = new AboutPage();
+        aboutPage.waitUntilLoaded();
         aboutPage.clickContactLink();
-        driver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(3));
         
-        ContactPage contactPage = new ContactPage(driver);
+        ContactPage contactPage = new ContactPage();
+        contactPage.waitUntilLoaded();
         String contactPageTitle = contactPage.getPageTitle();
-        logger.info("Final page reached: " + contactPageTitle);
+        logger.info("Final page reached: {}", contactPageTitle);
         Assert.assertTrue(contactPageTitle.contains("Contact Us"), 
             "Should be able to navigate from Home -> About -> Contact");
         
@@ -168,7 +173,7 @@ public class ContactPageTest extends BaseTest {
     public void testContactFormEmailValidation() {
         logger.info("Starting: Test Contact Form Email Validation");
         
-        ContactPage contactPage = new ContactPage(driver);
+        ContactPage contactPage = new ContactPage();
         contactPage.navigateToContactPage();
         
         // Fill form with invalid email
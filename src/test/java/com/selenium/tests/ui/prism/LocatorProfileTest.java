@@ -0,0 +1,55 @@
+package com.selenium.tests.ui.prism;
+
+import com.selenium.tests.base.BaseTest;
+import com.selenium.tests.config.FrameworkConfig;
+import com.selenium.tests.locators.LocatorProfile;
+import com.selenium.tests.locators.LocatorProfiler;
+import com.selenium.tests.metrics.MetricsOutput;
+import com.selenium.tests.pages.prism.AboutPage;
+import com.selenium.tests.pages.prism.ContactPage;
+import com.selenium.tests.pages.prism.HomePage;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Profiles the locators of the Prism page objects against the live pages
+ * Not part of testng.xml; run on demand with: mvn test -Dtest=LocatorProfileTest
+ * The report is written to target/metrics/locator-profile.txt
+ */
+public class LocatorProfileTest extends BaseTest {
+
+    @Test
+    public void profilePrismPageLocators() {
+        logger.info("Starting: Profile Prism Page Locators");
+
+        LocatorProfiler profiler = new LocatorProfiler(getDriver(), FrameworkConfig.getInt("locators.iterations", 5));
+        double slowThresholdMillis = FrameworkConfig.getInt("locators.slowMillis", 20);
+        List<LocatorProfile> profiles = new ArrayList<>();
+
+        HomePage homePage = new HomePage();
+        homePage.navigateToHomePage();
+        homePage.waitUntilLoaded();
+        profiles.addAll(profiler.profile(homePage));
+
+        AboutPage aboutPage = new AboutPage();
+        aboutPage.navigateToAboutPage();
+        aboutPage.waitUntilLoaded();
+        profiles.addAll(profiler.profile(aboutPage));
+
+        ContactPage contactPage = new ContactPage();
+        contactPage.navigateToContactPage();
+        contactPage.waitUntilLoaded();
+        profiles.addAll(profiler.profile(contactPage));
+
+        String report = LocatorProfiler.report(profiles, slowThresholdMillis);
+        logger.info("Locator profile:\n{}", report);
+        MetricsOutput.write("locator-profile.txt", report);
+
+        Assert.assertFalse(profiles.isEmpty(), "Page objects should declare locators to profile");
+
+        logger.info("Test passed: Locator profile written");
+    }
+}
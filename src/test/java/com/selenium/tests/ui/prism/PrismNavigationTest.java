@@ -4,6 +4,7 @@ import com.selenium.tests.base.BaseTest;
 import com.selenium.tests.pages.prism.HomePage;
 import com.selenium.tests.pages.prism.AboutPage;
 import com.selenium.tests.pages.prism.ContactPage;
+import com.selenium.tests.pages.prism.PrismSite;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -18,32 +19,32 @@ public class PrismNavigationTest extends BaseTest {
         logger.info("Starting: Test Complete Navigation Flow");
         
         // Start from Home Page
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage();
         homePage.navigateToHomePage();
-        String homeTitle = driver.getTitle();
+        String homeTitle = getDriver().getTitle();
         Assert.assertNotNull(homeTitle, "Home page should load");
         logger.info("Loaded Home page");
         
         // Navigate to About via link
         homePage.clickAboutLink();
-        driver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(3));
-        AboutPage aboutPage = new AboutPage(driver);
+        AboutPage aboutPage = new AboutPage();
+        aboutPage.waitUntilLoaded();
         String aboutTitle = aboutPage.getPageTitle();
         Assert.assertTrue(aboutTitle.contains("About"), "Should be on About page");
         logger.info("Navigated to About page");
         
         // Navigate to Contact from About
         aboutPage.clickContactLink();
-        driver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(3));
-        ContactPage contactPage = new ContactPage(driver);
+        ContactPage contactPage = new ContactPage();
+        contactPage.waitUntilLoaded();
         String contactTitle = contactPage.getPageTitle();
         Assert.assertTrue(contactTitle.contains("Contact"), "Should be on Contact page");
         logger.info("Navigated to Contact page");
         
         // Navigate back to Home from Contact
         contactPage.clickHomeLink();
-        driver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(3));
-        homePage = new HomePage(driver);
+        homePage = new HomePage();
+        homePage.waitUntilLoaded();
         String finalTitle = homePage.getMainHeading();
         Assert.assertNotNull(finalTitle, "Should be back on Home page");
         logger.info("Navigated back to Home page");
@@ -56,23 +57,23 @@ public class PrismNavigationTest extends BaseTest {
         logger.info("Starting: Test Direct Navigation to All Pages");
         
         // Test Home page direct navigation
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage();
         homePage.navigateToHomePage();
-        Assert.assertTrue(driver.getCurrentUrl().contains("prismsoftwaresolutions.com"), 
+        Assert.assertTrue(getDriver().getCurrentUrl().startsWith(PrismSite.baseUrl()), 
             "Should be on Prism home page");
         logger.info("Direct navigation to Home successful");
         
         // Test About page direct navigation
-        AboutPage aboutPage = new AboutPage(driver);
+        AboutPage aboutPage = new AboutPage();
         aboutPage.navigateToAboutPage();
-        Assert.assertTrue(driver.getCurrentUrl().contains("/about"), 
+        Assert.assertTrue(getDriver().getCurrentUrl().contains("/about"), 
             "Should be on About page");
         logger.info("Direct navigation to About successful");
         
         // Test Contact page direct navigation
-        ContactPage contactPage = new ContactPage(driver);
+        ContactPage contactPage = new ContactPage();
         contactPage.navigateToContactPage();
-        Assert.assertTrue(driver.getCurrentUrl().contains("/contact"), 
+        Assert.assertTrue(getDriver().getCurrentUrl().contains("/contact"), 
             "Should be on Contact page");
         logger.info("Direct navigation to Contact successful");
         
@@ -83,12 +84,12 @@ public class PrismNavigationTest extends BaseTest {
     public void testHomePageAllLinksAccessible() {
         logger.info("Starting: Test Home Page All Links Accessible");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage();
         homePage.navigateToHomePage();
         
         // Verify Home page loads
-        String homeUrl = driver.getCurrentUrl();
-        Assert.assertTrue(homeUrl.contains("prismsoftwaresolutions.com"), 
+        String homeUrl = getDriver().getCurrentUrl();
+        Assert.assertTrue(homeUrl.startsWith(PrismSite.baseUrl()), 
             "Home page should load");
         logger.info("Home page loads correctly");
         
@@ -99,23 +100,23 @@ public class PrismNavigationTest extends BaseTest {
     public void testPageTitleConsistency() {
         logger.info("Starting: Test Page Title Consistency");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage();
         homePage.navigateToHomePage();
-        String homePageTitle = driver.getTitle();
+        String homePageTitle = getDriver().getTitle();
         Assert.assertNotNull(homePageTitle, "Home page title should not be null");
-        logger.info("Home page title: " + homePageTitle);
+        logger.info("Home page title: {}", homePageTitle);
         
-        AboutPage aboutPage = new AboutPage(driver);
+        AboutPage aboutPage = new AboutPage();
         aboutPage.navigateToAboutPage();
-        String aboutPageTitle = driver.getTitle();
+        String aboutPageTitle = getDriver().getTitle();
         Assert.assertNotNull(aboutPageTitle, "About page title should not be null");
-        logger.info("About page title: " + aboutPageTitle);
+        logger.info("About page title: {}", aboutPageTitle);
         
-        ContactPage contactPage = new ContactPage(driver);
+        ContactPage contactPage = new ContactPage();
         contactPage.navigateToContactPage();
-        String contactPageUrl = driver.getCurrentUrl();
+        String contactPageUrl = getDriver().getCurrentUrl();
         Assert.assertTrue(contactPageUrl.contains("/contact"), "Should be on Contact page");
-        logger.info("Contact page URL: " + contactPageUrl);
+        logger.info("Contact page URL: {}", contactPageUrl);
         
         logger.info("Test passed: All pages load with valid URLs");
     }
@@ -124,20 +125,20 @@ public class PrismNavigationTest extends BaseTest {
     public void testBrowserBackButton() {
         logger.info("Starting: Test Browser Back Button");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage();
         homePage.navigateToHomePage();
         
-        AboutPage aboutPage = new AboutPage(driver);
+        AboutPage aboutPage = new AboutPage();
         aboutPage.navigateToAboutPage();
-        String aboutUrl = driver.getCurrentUrl();
-        logger.info("Current URL (About): " + aboutUrl);
+        String aboutUrl = getDriver().getCurrentUrl();
+        logger.info("Current URL (About): {}", aboutUrl);
         
-        driver.navigate().back();
-        driver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(2));
+        getDriver().navigate().back();
+        homePage.waitUntilLoaded();
         
-        String previousUrl = driver.getCurrentUrl();
-        logger.info("URL after back button: " + previousUrl);
-        Assert.assertTrue(previousUrl.contains("prismsoftwaresolutions.com"), 
+        String previousUrl = getDriver().getCurrentUrl();
+        logger.info("URL after back button: {}", previousUrl);
+        Assert.assertTrue(previousUrl.startsWith(PrismSite.baseUrl()), 
             "Back button should navigate to home page");
         
         logger.info("Test passed: Browser back button works correctly");
@@ -147,20 +148,20 @@ public class PrismNavigationTest extends BaseTest {
     public void testBrowserForwardButton() {
         logger.info("Starting: Test Browser Forward Button");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage();
         homePage.navigateToHomePage();
         
-        AboutPage aboutPage = new AboutPage(driver);
+        AboutPage aboutPage = new AboutPage();
         aboutPage.navigateToAboutPage();
         
-        driver.navigate().back();
-        driver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(2));
+        getDriver().navigate().back();
+        homePage.waitUntilLoaded();
         
-        driver.navigate().forward();
-        driver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(2));
+        getDriver().navigate().forward();
+        aboutPage.waitUntilLoaded();
         
-        String forwardUrl = driver.getCurrentUrl();
-        logger.info("URL after forward button: " + forwardUrl);
+        String forwardUrl = getDriver().getCurrentUrl();
+        logger.info("URL after forward button: {}", forwardUrl);
         Assert.assertTrue(forwardUrl.contains("/about"), 
             "Forward button should navigate to About page");
         